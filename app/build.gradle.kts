@@ -2,6 +2,19 @@ plugins {
     alias(libs.plugins.android.application)
 }
 
+val levelCompiler: Configuration by configurations.creating // Classpath of the level compiler
+val generatedLevelsDir = layout.buildDirectory.dir("generated/levels") // Compiled binary level maps
+
+// Compiles the text level maps, kept out of the assets, into binary levels packaged as assets
+val compileLevels by tasks.registering(JavaExec::class) {
+    val levelsDir = layout.projectDirectory.dir("src/main/levels")
+    inputs.files(fileTree(levelsDir) { include("level*.txt") })
+    outputs.dir(generatedLevelsDir)
+    classpath = levelCompiler
+    mainClass.set("com.example.bricks.core.LevelCompiler")
+    args(levelsDir.asFile.absolutePath, generatedLevelsDir.get().asFile.absolutePath)
+}
+
 android {
     namespace = "com.example.bricks"
     compileSdk = 34
@@ -26,10 +39,24 @@ android {
         sourceCompatibility = JavaVersion.VERSION_1_8
         targetCompatibility = JavaVersion.VERSION_1_8
     }
+    sourceSets {
+        getByName("main") {
+            assets.srcDir(generatedLevelsDir)
+        }
+    }
+    androidResources {
+        noCompress += "bin" // Stored uncompressed, so levels can be memory-mapped from the APK
+    }
+}
+
+tasks.named("preBuild") {
+    dependsOn(compileLevels)
 }
 
 dependencies {
 
+    implementation(project(":core"))
+    levelCompiler(project(":core"))
     implementation(libs.appcompat)
     implementation(libs.material)
     implementation(libs.activity)
@@ -0,0 +1,185 @@
+package com.example.bricks;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.PorterDuff;
+import android.graphics.PorterDuffXfermode;
+import android.graphics.Rect;
+
+import androidx.annotation.NonNull;
+
+import com.example.bricks.core.BrickStore;
+import com.example.bricks.core.ViewTransform;
+
+import java.util.Arrays;
+
+/**
+ * Offscreen layer holding the rendered bricks of a level.
+ * All bricks are drawn into a bitmap once when a level is loaded; afterwards only the cells of
+ * destroyed bricks are cleared, so a frame draws all bricks with a single bitmap blit. Updates
+ * report the areas that changed, for redrawing only the dirty region of the screen.
+ * Bricks are laid out in world units; the bitmap holds them at view resolution, so it is drawn
+ * without scaling.
+ * Not thread safe; must be used from the render thread only.
+ */
+public class BrickLayer {
+
+    private final Paint clearPaint = new Paint(); // Paint erasing a cell to transparent
+    private Bitmap bitmap; // Rendered bricks, null if the level has none
+    private Canvas layerCanvas; // Canvas drawing into the bitmap, in world units
+    private ViewTransform transform; // Transform the layer was rendered with
+    private BrickStore store; // Bricks the layer was rendered from
+    private int generation; // Generation of the store when the layer was rendered
+    private float[] bounds = new float[0]; // Left, top, right and bottom of the rendered brick of each cell, in world units
+    private boolean[] drawn = new boolean[0]; // Cells whose brick is rendered into the bitmap
+    private int drawnCount; // Number of rendered bricks
+
+    /**
+     * Constructs an empty BrickLayer.
+     */
+    public BrickLayer() {
+        clearPaint.setXfermode(new PorterDuffXfermode(PorterDuff.Mode.CLEAR));
+    }
+
+    /**
+     * Brings the layer up to date: a new or refilled store is rendered in full, removed bricks are
+     * cleared cell by cell.
+     *
+     * @param bricks    The bricks of the current level.
+     * @param transform The transform from world units to view pixels.
+     * @param dirty     Receives the union of the areas that changed since the previous update,
+     *                  in view pixels.
+     */
+    public void update(BrickStore bricks, ViewTransform transform, Rect dirty) {
+        if (bricks != store || bricks.getGeneration() != generation || transform != this.transform) {
+            if (bitmap != null && drawnCount > 0) {
+                dirty.union(0, 0, bitmap.getWidth(), bitmap.getHeight()); // Previous bricks
+            }
+
+            render(bricks, transform);
+
+            if (bitmap != null && drawnCount > 0) {
+                dirty.union(0, 0, bitmap.getWidth(), bitmap.getHeight()); // New bricks
+            }
+        } else if (bricks.size() != drawnCount) {
+            clearRemoved(dirty);
+        }
+    }
+
+    /**
+     * Draws the bricks onto a canvas as of the last update.
+     *
+     * @param canvas The canvas on which to draw.
+     */
+    public void draw(@NonNull Canvas canvas) {
+        if (bitmap != null && drawnCount > 0) {
+            canvas.drawBitmap(bitmap, 0, 0, null);
+        }
+    }
+
+    /**
+     * Renders all bricks of a store into the bitmap, reusing the bitmap if its size fits.
+     *
+     * @param bricks    The bricks to render.
+     * @param transform The transform from world units to view pixels.
+     */
+    private void render(BrickStore bricks, ViewTransform transform) {
+        store = bricks;
+        generation = bricks.getGeneration();
+        this.transform = transform;
+        int cellCount = bricks.getCellCount();
+
+        if (drawn.length != cellCount) {
+            drawn = new boolean[cellCount];
+            bounds = new float[cellCount * 4];
+        } else {
+            Arrays.fill(drawn, false);
+        }
+
+        float layerRight = 0;
+        float layerBottom = 0;
+
+        for (int i = bricks.nextBrick(0); i >= 0; i = bricks.nextBrick(i + 1)) {
+            layerRight = Math.max(layerRight, bricks.getRight(i));
+            layerBottom = Math.max(layerBottom, bricks.getBottom(i));
+        }
+
+        int width = (int) Math.ceil(transform.toView(layerRight));
+        int height = (int) Math.ceil(transform.toView(layerBottom));
+
+        if (width <= 0 || height <= 0) {
+            drawnCount = 0;
+            return;
+        }
+
+        if (bitmap == null || bitmap.getWidth() != width || bitmap.getHeight() != height) {
+            if (bitmap != null) {
+                bitmap.recycle();
+            }
+
+            bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+            layerCanvas = new Canvas(bitmap);
+        } else {
+            bitmap.eraseColor(0);
+        }
+
+        layerCanvas.setMatrix(null);
+        layerCanvas.scale(transform.getScale(), transform.getScale());
+
+        drawnCount = 0;
+
+        for (int i = bricks.nextBrick(0); i >= 0; i = bricks.nextBrick(i + 1)) {
+            int b = i * 4;
+            bounds[b] = bricks.getLeft(i);
+            bounds[b + 1] = bricks.getTop(i);
+            bounds[b + 2] = bricks.getRight(i);
+            bounds[b + 3] = bricks.getBottom(i);
+            layerCanvas.drawRect(bounds[b], bounds[b + 1], bounds[b + 2], bounds[b + 3], BrickPaints.get(bricks.getPaletteIndex(i)));
+            drawn[i] = true;
+            drawnCount++;
+        }
+    }
+
+    /**
+     * Clears the cells of the rendered bricks that are no longer in the store.
+     * Bricks are only ever removed from a store, so its bricks are a subset of the rendered ones.
+     *
+     * @param dirty Receives the union of the cleared cells, in view pixels.
+     */
+    private void clearRemoved(Rect dirty) {
+        int next = store.nextBrick(0);
+
+        for (int i = 0; i < drawn.length; i++) {
+            if (!drawn[i]) {
+                continue;
+            }
+
+            if (next == i) {
+                next = store.nextBrick(i + 1);
+                continue;
+            }
+
+            int b = i * 4;
+            layerCanvas.drawRect(bounds[b], bounds[b + 1], bounds[b + 2], bounds[b + 3], clearPaint);
+            dirty.union((int) Math.floor(transform.toView(bounds[b])), (int) Math.floor(transform.toView(bounds[b + 1])),
+                    (int) Math.ceil(transform.toView(bounds[b + 2])), (int) Math.ceil(transform.toView(bounds[b + 3])));
+            drawn[i] = false;
+            drawnCount--;
+        }
+    }
+
+    /**
+     * Releases the bitmap. The layer is rendered again on the next draw.
+     */
+    public void release() {
+        if (bitmap != null) {
+            bitmap.recycle();
+            bitmap = null;
+            layerCanvas = null;
+        }
+
+        store = null;
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.example.bricks;
+
+import android.graphics.Paint;
+
+import com.example.bricks.core.BrickPalette;
+
+/**
+ * Shared paints of the brick palette.
+ * One paint per palette entry is created once and used for every brick of that color. The paints
+ * are shared, so callers must not modify them.
+ */
+public final class BrickPaints {
+
+    private static final Paint[] PAINTS = createPaints(); // Paint of each palette entry
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private BrickPaints() {
+    }
+
+    /**
+     * Gets the paint of a palette entry.
+     *
+     * @param paletteIndex The palette index of a brick.
+     * @return The shared paint, must not be modified.
+     */
+    public static Paint get(int paletteIndex) {
+        return PAINTS[paletteIndex];
+    }
+
+    /**
+     * Creates one paint per palette entry.
+     *
+     * @return The paints indexed by palette index.
+     */
+    private static Paint[] createPaints() {
+        Paint[] paints = new Paint[BrickPalette.SIZE];
+
+        for (int i = 0; i < paints.length; i++) {
+            paints[i] = new Paint();
+            paints[i].setColor(BrickPalette.getColor(i));
+        }
+
+        return paints;
+    }
+
+}
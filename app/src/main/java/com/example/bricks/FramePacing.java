@@ -0,0 +1,9 @@
+package com.example.bricks;
+
+/**
+ * Timing source of the game loop.
+ */
+public enum FramePacing {
+    SLEEP, // The loop sleeps for a fixed 60 Hz frame interval
+    VSYNC // The loop runs on Choreographer frame callbacks at the display refresh rate
+}
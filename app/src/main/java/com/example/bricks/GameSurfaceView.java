@@ -0,0 +1,103 @@
+package com.example.bricks;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Rect;
+import android.view.SurfaceHolder;
+import android.view.SurfaceView;
+
+import androidx.annotation.NonNull;
+
+/**
+ * SurfaceView based rendering backend for the game.
+ * Frames are drawn from the update thread into a hardware accelerated canvas of the surface, so
+ * rendering does not take part in the measure/draw pass of the view hierarchy.
+ * Game logic and touch handling stay in the GameView placed on top of this surface.
+ */
+public class GameSurfaceView extends SurfaceView implements SurfaceHolder.Callback {
+
+    private final GameView gameView; // Game view that holds the state to render
+    private final Object surfaceLock = new Object(); // Guards the surface between render and destroy callbacks
+    private boolean surfaceReady = false; // Indicates if the surface can be drawn into (guarded by surfaceLock)
+    private final Rect dirty = new Rect(); // Region changed since the last posted frame (render thread only)
+
+    /**
+     * Constructs a new GameSurfaceView.
+     *
+     * @param context  The application context.
+     * @param gameView The game view that holds the state to render.
+     */
+    public GameSurfaceView(Context context, GameView gameView) {
+        super(context);
+        this.gameView = gameView;
+        getHolder().addCallback(this);
+    }
+
+    /**
+     * Renders one frame into the surface. Does nothing while the surface is not available.
+     * Called from the update thread.
+     */
+    public void render() {
+        synchronized (surfaceLock) {
+            if (!surfaceReady || !gameView.collectDirty(dirty)) {
+                return; // Nothing changed, the last posted frame stays on screen
+            }
+
+            SurfaceHolder holder = getHolder();
+            Canvas canvas = holder.lockHardwareCanvas();
+
+            if (canvas == null) {
+                return;
+            }
+
+            try {
+                gameView.render(canvas);
+            } finally {
+                holder.unlockCanvasAndPost(canvas);
+            }
+        }
+    }
+
+    /**
+     * Called when the surface is created. Enables rendering.
+     *
+     * @param holder The holder of the created surface.
+     */
+    @Override
+    public void surfaceCreated(@NonNull SurfaceHolder holder) {
+        synchronized (surfaceLock) {
+            surfaceReady = true;
+        }
+
+        gameView.markAllDirty(); // A new surface has no content yet
+        render(); // The game loop may be idle
+    }
+
+    /**
+     * Called when the surface format or size changes.
+     *
+     * @param holder The holder of the changed surface.
+     * @param format The new pixel format of the surface.
+     * @param width  The new width of the surface.
+     * @param height The new height of the surface.
+     */
+    @Override
+    public void surfaceChanged(@NonNull SurfaceHolder holder, int format, int width, int height) {
+        gameView.markAllDirty(); // Draw the next frame in full with the new size
+        render(); // The game loop may be idle
+    }
+
+    /**
+     * Called when the surface is about to be destroyed. Blocks until a frame in progress is
+     * posted, so the update thread never touches a released surface.
+     *
+     * @param holder The holder of the destroyed surface.
+     */
+    @Override
+    public void surfaceDestroyed(@NonNull SurfaceHolder holder) {
+        synchronized (surfaceLock) {
+            surfaceReady = false;
+        }
+    }
+
+}
@@ -2,65 +2,104 @@ package com.example.bricks;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
+import android.content.res.AssetFileDescriptor;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
+import android.graphics.Rect;
 import android.graphics.RectF;
+import android.os.Debug;
 import android.util.AttributeSet;
-import android.util.Log;
 import android.view.MotionEvent;
 import android.view.View;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
 
-import java.io.BufferedReader;
+import com.example.bricks.core.Ball;
+import com.example.bricks.core.BallPool;
+import com.example.bricks.core.BrickStorage;
+import com.example.bricks.core.FrameStats;
+import com.example.bricks.core.GameWorld;
+import com.example.bricks.core.InputQueue;
+import com.example.bricks.core.InputRecorder;
+import com.example.bricks.core.InputReplayer;
+import com.example.bricks.core.LevelMap;
+import com.example.bricks.core.LevelRepository;
+import com.example.bricks.core.LevelFormat;
+import com.example.bricks.core.OnGameEventListener;
+import com.example.bricks.core.Percentiles;
+import com.example.bricks.core.Platform;
+import com.example.bricks.core.ViewTransform;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.util.ArrayList;
-import java.util.List;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Custom view for the Bricks game.
- * Handles game logic, rendering, and user interactions.
+ * Renders the headless game world, plays music and sound effects for its events and handles
+ * user interactions.
  */
 public class GameView extends View {
 
-    private static final int BRICK_PER_ROW = 10; // Number of bricks per row
-    private static final int SPACE_BETWEEN_BRICKS = 5; // Space between bricks in pixels
-    private final int MAX_LEVELS = 3; // Total number of levels in the game
-    private final int MAX_ATTEMPTS = 3; // Maximum number of attempts per game
-    private int currentLevel = 1; // Current game level
-    private int attempts; // Remaining attempts
-    private boolean isPlaying = false; // Indicates if the game is currently running
-    private boolean levelCleared = false; // Indicates if the current level is cleared
-    private boolean gameCompleted = false; // Indicates if the game is completed
-    private boolean gameOvered = false; // Indicates if the game is over
-
     private boolean musicOn = true; // Flag to toggle background music
     private boolean sfxOn = true; // Flag to toggle sound effects
 
-    private int score = 0; // Player's score (count of destroyed bricks)
-    private final Paint paint; // Paint object for drawing
-    private Ball ball; // Ball object
-    private Platform platform; // Platform object
-    private final List<Brick> bricks; // List of bricks in the current level
-
-    public static int screenWidth; // Screen width in pixels
-    public int screenHeight; // Screen height in pixels
-
-    private float startTouchX; // X-coordinate of the initial touch
-    private final int PLATFORM_WIDTH_BASE = 70; // Base width of the platform
-    private final int PLATFORM_HEIGHT_BASE = 15; // Base height of the platform
-    private final int BALL_X_SPEED = 10; // Initial horizontal speed of the ball
-    private final int BALL_Y_SPEED = 10; // Initial vertical speed of the ball
+    private final Paint paint; // Paint object for drawing the instrumentation overlay
+    private final Paint ballPaint; // Paint object for drawing the ball
+    private final Paint platformPaint; // Paint object for drawing the platform
+    private Hud hud; // Score and attempts display
+    private final BrickLayer brickLayer = new BrickLayer(); // Cached rendering of the bricks (guarded by lock)
+    private final Rect dirtyRect = new Rect(); // Region invalidated on the UI thread in VIEW mode
+    private final Rect dirtyBounds = new Rect(); // Reused pixel bounds of a shown object (guarded by lock)
+    private boolean fullRedraw = true; // Whether the next dirty region covers the whole view (guarded by lock)
+    private boolean shownPlaying = false; // Whether the game, not the pause screen, is shown (guarded by lock)
+    private float shownBallX, shownBallY; // Ball center as shown, interpolated (guarded by lock)
+    private final RectF shownPlatform = new RectF(); // Platform bounds as shown (guarded by lock)
+    private float shownInterpolation; // Interpolation the extra balls are shown with (guarded by lock)
+    private int shownExtraBalls = 0; // Number of extra balls as shown (guarded by lock)
+    private int shownScore = -1; // Score as shown in the HUD (guarded by lock)
+    private int shownAttempts = -1; // Attempts as shown in the HUD (guarded by lock)
+    private GameWorld world; // Simulation of the game
+    private InputRecorder inputRecorder; // Records the input for replays, null if not recording (guarded by lock)
+
+    private int screenWidth; // Screen width in pixels
+    private int screenHeight; // Screen height in pixels
+    private ViewTransform transform; // Maps world units to view pixels
+
+    private float startTouchX; // X-coordinate of the last applied touch position
+    private final InputQueue touchInput = new InputQueue(TOUCH_INPUT_CAPACITY); // Platform movements applied at the next tick
     private final PlayListController playListController; // Custom controller for background music
-    private OnGameEventListener onGameEventListener; // Listener for game events (for sound effects)
     private final SoundManager soundManager; // SoundManager instance for managing sound effects
     private QuickTapListener quickTapListener; // Listener for quick tap events (for opening settings panel)
     private float downX, downY; // Coordinates of the initial touch down event for quick tap detection
     private long downTime; // Timestamp of the touch down event for quick tap detection
+    private final Object lock = new Object(); // Guards the game state shared by the update thread and the UI thread
+    private volatile float interpolation = 0f; // Fraction of the next update elapsed at render time
+    private final PauseScreen pauseScreen; // Cached pause screen (guarded by lock)
+
+    private static final int TOUCH_INPUT_CAPACITY = 64; // Platform movements queued between two ticks
+    private static final int OVERLAY_REFRESH_FRAMES = 30; // Frames between refreshes of the instrumentation overlay
+    private static final int OVERLAY_LINES = 3; // Lines of text of the instrumentation overlay
+    private static final float OVERLAY_FIRST_LINE = 1.5f; // Distance of the first overlay line below the score line, in text sizes
+    private static final float OVERLAY_LINE_SPACING = 1.2f; // Distance between overlay lines, in text sizes
+    private volatile FrameStats frameStats; // Instrumentation of the game loop, null unless enabled
+    private final Percentiles tickPercentiles = new Percentiles(FrameStats.CAPACITY); // Tick times shown in the overlay
+    private final Percentiles drawPercentiles = new Percentiles(FrameStats.CAPACITY); // Draw times shown in the overlay
+    private final StringBuilder tickOverlayText = new StringBuilder(); // Overlay line with the tick times
+    private final StringBuilder drawOverlayText = new StringBuilder(); // Overlay line with the draw times
+    private final StringBuilder countersOverlayText = new StringBuilder(); // Overlay line with dropped frames and collections
+    private int overlayFrames; // Frames drawn since the overlay was refreshed
+
+    private static final int LEVEL_CACHE_SIZE = GameWorld.MAX_LEVELS; // Laid out levels kept in memory
 
     /**
      * Constructor for initializing the GameView.
@@ -72,7 +111,10 @@ public class GameView extends View {
         super(context, attrs);
 
         paint = new Paint();
-        bricks = new ArrayList<>();
+        ballPaint = new Paint();
+        ballPaint.setColor(Color.rgb(255, 105, 180)); // Sets the ball color to pink
+        platformPaint = new Paint();
+        platformPaint.setColor(0xFFFF8C00); // Sets the platform color to orange
 
         playListController = new PlayListController(this.getContext());
 
@@ -85,8 +127,19 @@ public class GameView extends View {
         soundManager.loadSound(context, R.raw.platform_hit);
         soundManager.loadSound(context, R.raw.floor_hit);
 
+        initialize();
+        pauseScreen = new PauseScreen(context, screenWidth, screenHeight, getThemeDefaultTextColor());
+
         // Set up the listener for handling sound effects on game events
         this.setOnGameEventListener(eventType -> {
+            switch (eventType) {
+                case LEVEL_CLEARED:
+                case GAME_COMPLETED:
+                case GAME_OVER:
+                    stopMusicPlayback();
+                    return;
+            }
+
             if (!sfxOn) {
                 return;
             }
@@ -106,33 +159,59 @@ public class GameView extends View {
                     break;
             }
         });
-
-        initialize();
     }
 
     /**
-     * Initializes the game by setting screen dimensions and resetting attempts.
+     * Initializes the game by setting screen dimensions and creating the game world. The world is
+     * {@link GameWorld#WORLD_WIDTH} units wide on every screen, as tall as the screen's aspect
+     * ratio allows, and scaled to the screen width when drawn.
      */
     private void initialize() {
         screenWidth = getResources().getDisplayMetrics().widthPixels;
         screenHeight = getResources().getDisplayMetrics().heightPixels;
-        attempts = MAX_ATTEMPTS;
+        hud = new Hud(getContext(), screenWidth);
+
+        ExecutorService levelLoader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "LevelLoader");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        LevelRepository levels = new LevelRepository(this::loadLevel, levelLoader, LEVEL_CACHE_SIZE);
+        levels.prefetch(1, GameWorld.WORLD_WIDTH); // Have the first level ready when the player taps Start
+        transform = ViewTransform.fitWidth(GameWorld.WORLD_WIDTH, screenWidth);
+        world = new GameWorld(GameWorld.WORLD_WIDTH, transform.toWorld(screenHeight), levels);
     }
 
     /**
      * Updates the game state, including ball movement and collision detection.
+     * Called from the update thread once per fixed simulation step. The platform movements queued
+     * by touch events since the previous step are applied with it, as one command.
      */
     public void update() {
-        if (!isPlaying) {
-            return;
-        }
+        FrameStats stats = frameStats;
+
+        synchronized (lock) {
+            float deltaX = touchInput.drain();
 
-        if (ball.checkOutOfScreen()) {
-            onGameEventListener.onEvent(GameEventType.BORDER_HIT);
+            if (stats == null) {
+                world.step(GameWorld.STEP_SECONDS, deltaX);
+                return;
+            }
+
+            long start = System.nanoTime();
+            world.step(GameWorld.STEP_SECONDS, deltaX);
+            stats.recordTick(System.nanoTime() - start);
         }
+    }
 
-        ball.update();
-        checkCollisions();
+    /**
+     * Sets the interpolation factor used to render moving objects between two simulation steps.
+     *
+     * @param interpolation Fraction of the next update that has elapsed, in the range [0, 1].
+     */
+    public void setInterpolation(float interpolation) {
+        this.interpolation = interpolation;
     }
 
     /**
@@ -143,238 +222,353 @@ public class GameView extends View {
     @Override
     protected void onDraw(@NonNull Canvas canvas) {
         super.onDraw(canvas);
+        render(canvas);
+    }
 
-        // Save old paint settings
-        int oldColor = paint.getColor();
-        Paint.Align oldAlign = paint.getTextAlign();
-        float oldTextSize = paint.getTextSize();
-
-        if (!isPlaying) {
-            // Draw pause screen
-            canvas.drawColor(Color.BLACK);
-            paint.setColor(Color.WHITE);
-            paint.setTextSize((float) screenWidth / 10);
-            String pauseMsg = getContext().getString(R.string.game_paused_msg);
-            float x_pos = (float) screenWidth / 2 - paint.measureText(pauseMsg) / 2;
-            canvas.drawText(pauseMsg, x_pos, (float) screenHeight / 2, paint);
-
-
-            // Draw bottom-centered hint
-            paint.setTextAlign(Paint.Align.CENTER);
-            float textPx = 16f * getResources().getDisplayMetrics().scaledDensity; // 16sp
-            paint.setTextSize(textPx);
-            Paint.FontMetrics fm = paint.getFontMetrics();
-            float marginPx = getResources().getDisplayMetrics().density * 12f; // 12dp
-            float baselineY = screenHeight - marginPx - fm.bottom;
-            paint.setColor(getThemeDefaultTextColor()); // Use theme default text color
-            String tapToResumeMsg = getContext().getString(R.string.tap_to_resume_text);
-            canvas.drawText(tapToResumeMsg, (float) screenWidth / 2f, baselineY, paint);
-
-            // Restore old paint settings
-            paint.setColor(oldColor);
-            paint.setTextAlign(oldAlign);
-            paint.setTextSize(oldTextSize);
-
-            return;
+    /**
+     * Invalidates the region of the view that changed since the last frame, or nothing if the
+     * frame would be identical. Called on the UI thread once per frame in VIEW mode.
+     */
+    public void invalidateDirty() {
+        if (collectDirty(dirtyRect)) {
+            invalidate(dirtyRect);
         }
+    }
 
-        // Draw game objects
-        canvas.drawColor(Color.BLACK);
-        ball.draw(canvas);
-        platform.draw(canvas);
+    /**
+     * Computes the region that changed since the previous call and captures the state the next
+     * frame shows: the old and new bounds of the ball and the platform, the cells of destroyed
+     * bricks and the HUD when its values changed. The whole view is dirty after a switch between
+     * the game and the pause screen or after {@link #markAllDirty()}.
+     *
+     * @param dirty Receives the changed region in view coordinates.
+     * @return True if the next frame differs from the previous one, false otherwise.
+     */
+    public boolean collectDirty(Rect dirty) {
+        synchronized (lock) {
+            dirty.setEmpty();
+            boolean playing = world.isPlaying();
+
+            if (playing != shownPlaying) {
+                shownPlaying = playing;
+                fullRedraw = true;
+            }
 
-        for (Brick brick : bricks) {
-            brick.draw(canvas);
-        }
+            if (playing) {
+                // Ball, where it was shown and where it will be shown
+                Ball ball = world.getBall();
+                float radius = ball.getRadius();
+                dirty.union(pixelBounds(shownBallX - radius, shownBallY - radius, shownBallX + radius, shownBallY + radius));
+                shownBallX = ball.getRenderX(interpolation);
+                shownBallY = ball.getRenderY(interpolation);
+                dirty.union(pixelBounds(shownBallX - radius, shownBallY - radius, shownBallX + radius, shownBallY + radius));
+
+                // Platform, where it was shown and where it will be shown
+                Platform platform = world.getPlatform();
+                dirty.union(pixelBounds(shownPlatform.left, shownPlatform.top, shownPlatform.right, shownPlatform.bottom));
+                float platformLeft = platform.getRenderLeft(interpolation);
+                shownPlatform.set(platformLeft, platform.getTop(), platformLeft + platform.getRight() - platform.getLeft(), platform.getBottom());
+                dirty.union(pixelBounds(shownPlatform.left, shownPlatform.top, shownPlatform.right, shownPlatform.bottom));
+
+                // Extra balls, too many to track one by one, so the whole view
+                BallPool balls = world.getBalls();
+                shownInterpolation = interpolation;
+
+                if (balls.size() > 0 || shownExtraBalls > 0) {
+                    shownExtraBalls = balls.size();
+                    fullRedraw = true;
+                }
 
-        // Draw score and attempts
-        paint.setColor(Color.WHITE);
-        paint.setTextSize((float) screenWidth / 20);
+                // Destroyed bricks, or all bricks of a new level
+                brickLayer.update(world.getBricks(), transform, dirty);
 
-        String scoreText = getContext().getString(R.string.score_metric) + score;
-        String attemptsText = getContext().getString(R.string.attempts_metric) + attempts;
+                // HUD, when its values change or the overlay shows live statistics
+                if (world.getScore() != shownScore || world.getAttempts() != shownAttempts || frameStats != null) {
+                    shownScore = world.getScore();
+                    shownAttempts = world.getAttempts();
+                    dirty.union(0, 0, screenWidth, getHudBottom());
+                }
+            }
 
-        canvas.drawText(scoreText.toUpperCase(), 10, 80, paint);
-        float x_pos = (float) screenWidth - paint.measureText(attemptsText.toUpperCase()) - 10;
+            if (fullRedraw) {
+                fullRedraw = false;
+                dirty.set(0, 0, screenWidth, screenHeight);
+            }
 
-        canvas.drawText(attemptsText.toUpperCase(), x_pos, 80, paint);
+            return !dirty.isEmpty();
+        }
+    }
 
-        // Restore old paint settings
-        paint.setColor(oldColor);
-        paint.setTextAlign(oldAlign);
-        paint.setTextSize(oldTextSize);
+    /**
+     * Makes the next dirty region cover the whole view, e.g. after the surface was recreated.
+     */
+    public void markAllDirty() {
+        synchronized (lock) {
+            fullRedraw = true;
+        }
     }
 
-    private int getThemeDefaultTextColor() {
-        TextView tv = new TextView(getContext());
-        return tv.getTextColors().getDefaultColor();
+    /**
+     * Gets the pixel bounds covering a rectangle of the world, with a one pixel margin for
+     * antialiasing.
+     *
+     * @param left   The left edge of the rectangle in world units.
+     * @param top    The top edge of the rectangle in world units.
+     * @param right  The right edge of the rectangle in world units.
+     * @param bottom The bottom edge of the rectangle in world units.
+     * @return The reused bounds, empty if the rectangle is empty.
+     */
+    private Rect pixelBounds(float left, float top, float right, float bottom) {
+        if (left >= right || top >= bottom) {
+            dirtyBounds.setEmpty();
+        } else {
+            dirtyBounds.set((int) Math.floor(transform.toView(left)) - 1, (int) Math.floor(transform.toView(top)) - 1,
+                    (int) Math.ceil(transform.toView(right)) + 1, (int) Math.ceil(transform.toView(bottom)) + 1);
+        }
+
+        return dirtyBounds;
     }
 
     /**
-     * Checks for collisions between the ball, platform, bricks, and screen borders.
+     * Gets the bottom of the HUD area: the score and attempts line, plus the instrumentation
+     * overlay when it is shown.
+     *
+     * @return The y-coordinate of the bottom of the HUD.
      */
-    private void checkCollisions() {
-        if (!isPlaying) {
-            return;
+    private int getHudBottom() {
+        float bottom = hud.getBottom();
+
+        if (frameStats != null) {
+            bottom = Math.max(bottom, getOverlayBaseline(OVERLAY_LINES)); // A line below the last one clears its descent
         }
 
-        if (RectF.intersects(ball.getRect(), platform.getRect())) {
-            if (onGameEventListener != null) {
-                onGameEventListener.onEvent(GameEventType.PLATFORM_HIT);
-            }
-            ball.bounceOffPlatform(platform);
-        } else if (ball.getRect().top > getHeight()) {
-            // Ball hits the floor
-            if (onGameEventListener != null) {
-                onGameEventListener.onEvent(GameEventType.FLOOR_HIT);
-            }
+        return (int) Math.ceil(bottom);
+    }
 
-            attempts = attempts - 1;
+    /**
+     * Gets the text size of the instrumentation overlay.
+     *
+     * @return The text size in pixels.
+     */
+    private float getOverlayTextSize() {
+        return (float) screenWidth / 40;
+    }
 
-            if (attempts == 0) {
-                gameOvered = true;
-                stopGame();
-            } else {
-                resetLevel(false); // Reset level without reloading level map
-            }
-        } else {
-            for (int i = 0; i < bricks.size(); i++) {
-                if (ball.getRect().intersect(bricks.get(i).getRect())) {
-                    if (onGameEventListener != null) {
-                        onGameEventListener.onEvent(GameEventType.BRICK_HIT);
-                    }
-                    ball.bounceOffBrick();
-                    bricks.remove(i);
-                    score += 10;
-                    break;
-                }
-            }
+    /**
+     * Gets the baseline of a line of the instrumentation overlay.
+     *
+     * @param line The number of the line, starting at 0.
+     * @return The y-coordinate of the baseline.
+     */
+    private float getOverlayBaseline(int line) {
+        return hud.getBaseline() + getOverlayTextSize() * (OVERLAY_FIRST_LINE + line * OVERLAY_LINE_SPACING);
+    }
 
-            // Check if all bricks are destroyed
-            if (bricks.isEmpty()) {
-                if (currentLevel == MAX_LEVELS) {
-                    gameCompleted = true; // Game completed if all levels are cleared
-                    stopGame();
-                } else {
-                    levelCleared = true; // Level cleared
-                    isPlaying = false;
-
-                    if (playListController.isPlaying()) {
-                        playListController.stop();
-                    }
-                }
-            }
+    /**
+     * Releases the cached brick layer and pause screen when the view leaves the window.
+     */
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+
+        synchronized (lock) {
+            brickLayer.release();
+            pauseScreen.release();
         }
     }
 
     /**
-     * Start next level.
+     * Draws the current game state on the given canvas. Safe to call from a render thread.
+     *
+     * @param canvas The canvas on which to draw.
      */
-    public void startNextLevel() {
-        if (currentLevel < MAX_LEVELS) {
-            // Load the next level
-            currentLevel++;
-            resetLevel(true);
-            isPlaying = true;
+    public void render(@NonNull Canvas canvas) {
+        FrameStats stats = frameStats;
 
-            if (musicOn && !playListController.isPlaying()) {
-                playListController.playShuffle();
+        synchronized (lock) {
+            if (stats == null) {
+                drawFrame(canvas);
+                return;
+            }
+
+            long start = System.nanoTime();
+            drawFrame(canvas);
+
+            if (world.isPlaying()) {
+                stats.recordFrame(start, System.nanoTime() - start);
+            } else {
+                stats.resetFrameClock(); // Time on the pause screen is not stutter
             }
-        } else {
-            // Reset the game if all levels are cleared
-            stopGame();
         }
     }
 
     /**
-     * Loads the level map from the assets folder.
+     * Draws the current game state. The caller must hold the state lock.
      *
-     * @param level The level number to load.
+     * @param canvas The canvas on which to draw.
      */
-    private void loadLevel(int level) {
-        bricks.clear();
-        String levelPath = String.format(getContext().getString(R.string.level_d_txt), level); // Path to level map file
+    private void drawFrame(@NonNull Canvas canvas) {
+        if (!shownPlaying) {
+            pauseScreen.draw(canvas);
+            return;
+        }
 
-        try (
-                InputStream inputStream = getContext().getAssets().open(levelPath);
-                BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))
-        ) {
-            String line;
-            int row = 0;
+        // Draw game objects, the ball and the platform through the view transform
+        canvas.drawColor(Color.BLACK);
+        canvas.save();
+        canvas.scale(transform.getScale(), transform.getScale());
+        canvas.drawCircle(shownBallX, shownBallY, world.getBall().getRadius(), ballPaint);
 
-            while ((line = reader.readLine()) != null) {
-                for (int col = 0; col < line.length(); col++) {
-                    char currentChar = line.charAt(col);
+        BallPool balls = world.getBalls();
 
-                    if (currentChar != ' ') {
-                        int colorCode = Character.getNumericValue(currentChar);
+        for (int i = 0; i < balls.size(); i++) {
+            canvas.drawCircle(balls.getRenderX(i, shownInterpolation), balls.getRenderY(i, shownInterpolation), balls.getRadius(i), ballPaint);
+        }
 
-                        // Calculate brick width and height based on screen width and height
-                        Brick brick = getBrick(col, row, colorCode);
-                        bricks.add(brick);
-                    }
-                }
+        canvas.drawRect(shownPlatform, platformPaint);
+        canvas.restore();
+        brickLayer.draw(canvas);
 
-                row++;
-            }
-        } catch (IOException e) {
-            Log.e("GameView", "Error loading level", e);
+        // Draw score and attempts
+        hud.draw(canvas, world.getScore(), world.getAttempts());
+
+        FrameStats stats = frameStats;
+
+        if (stats != null) {
+            drawOverlay(canvas, stats);
         }
     }
 
     /**
-     * Creates a brick object based on its column, row, and color code.
+     * Draws the instrumentation overlay below the score. The statistics are refreshed every
+     * {@link #OVERLAY_REFRESH_FRAMES} frames into reused buffers, so drawing does not allocate.
      *
-     * @param col The column of the brick.
-     * @param row The row of the brick.
-     * @param colorCode The color code of the brick.
-     * @return A new Brick object.
+     * @param canvas The canvas on which to draw.
+     * @param stats  The instrumentation of the game loop.
      */
-    @NonNull
-    private static Brick getBrick(int col, int row, int colorCode) {
-        float brick_width = ((float) (screenWidth - BRICK_PER_ROW * SPACE_BETWEEN_BRICKS)) / (float) BRICK_PER_ROW;
-        int BRICK_WIDTH_BASE = 40;
-        int BRICK_HEIGHT_BASE = 20;
-        float brick_height = brick_width * ((float) BRICK_HEIGHT_BASE / (float) BRICK_WIDTH_BASE);
+    private void drawOverlay(@NonNull Canvas canvas, FrameStats stats) {
+        if (overlayFrames-- <= 0) {
+            overlayFrames = OVERLAY_REFRESH_FRAMES;
+            stats.setGcTotal(readGcCount());
+            stats.getTickPercentiles(tickPercentiles);
+            stats.getDrawPercentiles(drawPercentiles);
+            formatPercentiles(tickOverlayText, "TICK ", tickPercentiles);
+            formatPercentiles(drawOverlayText, "DRAW ", drawPercentiles);
+            countersOverlayText.setLength(0);
+            countersOverlayText.append("DROPPED ").append(stats.getDroppedFrames())
+                    .append("  GC ").append(stats.getGcCount());
+        }
+
+        paint.setTextSize(getOverlayTextSize());
+        paint.setColor(Color.LTGRAY);
+        canvas.drawText(tickOverlayText, 0, tickOverlayText.length(), 10, getOverlayBaseline(0), paint);
+        canvas.drawText(drawOverlayText, 0, drawOverlayText.length(), 10, getOverlayBaseline(1), paint);
+        canvas.drawText(countersOverlayText, 0, countersOverlayText.length(), 10, getOverlayBaseline(2), paint);
+    }
+
+    /**
+     * Replaces the text with a label followed by p50/p95/p99 in milliseconds, one decimal place.
+     *
+     * @param text        The text to replace.
+     * @param label       The label of the line.
+     * @param percentiles The percentiles in nanoseconds.
+     */
+    private static void formatPercentiles(StringBuilder text, String label, Percentiles percentiles) {
+        text.setLength(0);
+        text.append(label);
+        appendMillis(text, percentiles.getP50());
+        text.append(" / ");
+        appendMillis(text, percentiles.getP95());
+        text.append(" / ");
+        appendMillis(text, percentiles.getP99());
+        text.append(" MS");
+    }
 
-        // Create and return brick object
-        return new Brick((int) (col * (brick_width + SPACE_BETWEEN_BRICKS)), (int) (row * (brick_height + SPACE_BETWEEN_BRICKS)), (int) brick_width, (int) brick_height, colorCode);
+    /**
+     * Appends a duration in milliseconds with one decimal place.
+     *
+     * @param text  The text to append to.
+     * @param nanos The duration in nanoseconds.
+     */
+    private static void appendMillis(StringBuilder text, long nanos) {
+        long tenths = (nanos + 50_000) / 100_000;
+        text.append(tenths / 10).append('.').append(tenths % 10);
     }
 
     /**
-     * Resets the current level.
+     * Reads the number of garbage collections performed by the runtime.
      *
-     * @param reloadLevelMap If true, reloads the level map; otherwise, keeps the current map.
+     * @return The collection count, 0 if the runtime does not report it.
+     */
+    private static long readGcCount() {
+        String count = Debug.getRuntimeStat("art.gc.gc-count");
+
+        try {
+            return count != null ? Long.parseLong(count) : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private int getThemeDefaultTextColor() {
+        TextView tv = new TextView(getContext());
+        return tv.getTextColors().getDefaultColor();
+    }
+
+    /**
+     * Start next level.
      */
-    private void resetLevel(boolean reloadLevelMap) {
-        ball = new Ball((float) screenWidth / 2, (float) screenHeight / 2, (float) screenWidth / 50, BALL_X_SPEED, BALL_Y_SPEED); // Create new ball
+    public void startNextLevel() {
+        boolean playing;
 
-        float platform_width = (float) screenWidth * (PLATFORM_WIDTH_BASE / 400.0f);
-        float platform_height = (float) screenHeight * (PLATFORM_HEIGHT_BASE / 600.0f);
-        platform = new Platform((float) screenWidth / 2 - platform_width / 2, screenHeight - platform_height - 80, platform_width, platform_height); // Create new platform
+        synchronized (lock) {
+            touchInput.drain(); // Discard movements made while the level was stopped
+            world.startNextLevel();
+            playing = world.isPlaying();
+        }
 
-        if (reloadLevelMap) {
-            loadLevel(currentLevel); // Reload level map or load next level map
+        if (playing) {
+            if (musicOn && !playListController.isPlaying()) {
+                playListController.playShuffle();
+            }
+        } else {
+            // The game is over if all levels are cleared
+            stopMusicPlayback();
         }
+    }
+
+    /**
+     * Loads the compiled level map from the assets folder. The asset is stored uncompressed and
+     * memory-mapped, so the level is read with a single bulk copy. Called on the level loader
+     * thread, or on the caller's thread if a level is needed before it was prefetched.
+     *
+     * @param level The level number to load.
+     * @return The level map.
+     * @throws UncheckedIOException If the map cannot be read.
+     */
+    private LevelMap loadLevel(int level) {
+        String levelPath = String.format(getContext().getString(R.string.level_d_bin), level); // Path to level map file
 
-        // Reset flags
-        isPlaying = true;
-        levelCleared = false;
-        gameCompleted = false;
-        gameOvered = false;
+        try (
+                AssetFileDescriptor descriptor = getContext().getAssets().openFd(levelPath);
+                FileInputStream inputStream = descriptor.createInputStream();
+                FileChannel channel = inputStream.getChannel()
+        ) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, descriptor.getStartOffset(), descriptor.getLength());
+            return LevelFormat.decode(buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error loading level " + level, e);
+        }
     }
 
     /**
      * Starts a new game by resetting all counters and loading the first level.
      */
     public void startGame() {
-        // Reset game counters
-        currentLevel = 1;
-        attempts = MAX_ATTEMPTS;
-        score = 0;
-
-        // Load first level map
-        resetLevel(true);
+        synchronized (lock) {
+            touchInput.drain(); // Discard movements made while the game was stopped
+            world.startGame();
+        }
 
         if (musicOn && !playListController.isPlaying()) {
             playListController.playShuffle();
@@ -385,12 +579,22 @@ public class GameView extends View {
      * Stops the game and music playback.
      */
     public void stopGame() {
-        isPlaying = false;
-        levelCleared = false;
-
-        if (playListController.isPlaying()) {
-            playListController.stop();
+        synchronized (lock) {
+            world.stopGame();
         }
+
+        stopMusicPlayback();
+    }
+
+    /**
+     * Stops the music playback on the UI thread, so it can be requested from the update thread.
+     */
+    private void stopMusicPlayback() {
+        post(() -> {
+            if (playListController.isPlaying()) {
+                playListController.stop();
+            }
+        });
     }
 
     /**
@@ -399,7 +603,9 @@ public class GameView extends View {
      * @return The current level number.
      */
     public int getCurrentLevel() {
-        return currentLevel;
+        synchronized (lock) {
+            return world.getCurrentLevel();
+        }
     }
 
     /**
@@ -408,7 +614,9 @@ public class GameView extends View {
      * @return True if the game is playing, false otherwise.
      */
     public boolean isPlaying() {
-        return isPlaying;
+        synchronized (lock) {
+            return world.isPlaying();
+        }
     }
 
     /**
@@ -417,7 +625,10 @@ public class GameView extends View {
      * @param isPlaying True to start playing, false to pause.
      */
     public void setIsPlaying(boolean isPlaying) {
-        this.isPlaying = isPlaying;
+        synchronized (lock) {
+            touchInput.drain(); // Discard movements made while the game was paused
+            world.setIsPlaying(isPlaying);
+        }
     }
 
     /**
@@ -426,7 +637,9 @@ public class GameView extends View {
      * @return True if the level is cleared, false otherwise.
      */
     public boolean isLevelCleared() {
-        return levelCleared;
+        synchronized (lock) {
+            return world.isLevelCleared();
+        }
     }
 
     /**
@@ -435,7 +648,9 @@ public class GameView extends View {
      * @return True if the game is completed, false otherwise.
      */
     public boolean isGameCompleted() {
-        return gameCompleted;
+        synchronized (lock) {
+            return world.isGameCompleted();
+        }
     }
 
     /**
@@ -444,7 +659,91 @@ public class GameView extends View {
      * @return True if the game is overed, false otherwise.
      */
     public boolean isGameOvered() {
-        return gameOvered;
+        synchronized (lock) {
+            return world.isGameOvered();
+        }
+    }
+
+    /**
+     * Enables or disables continuous collision detection for the ball.
+     *
+     * @param continuousCollision True to sweep the ball along its velocity, false to test overlaps
+     *                            after each move.
+     */
+    public void setContinuousCollision(boolean continuousCollision) {
+        synchronized (lock) {
+            world.setContinuousCollision(continuousCollision);
+        }
+    }
+
+    /**
+     * Sets the representation of the bricks, taking effect when the next level map is loaded.
+     *
+     * @param brickStorage Brick objects in a grid, or parallel primitive arrays.
+     */
+    public void setBrickStorage(BrickStorage brickStorage) {
+        synchronized (lock) {
+            world.setBrickStorage(brickStorage);
+        }
+    }
+
+    /**
+     * Starts recording the input of the game, for replaying it headless with the
+     * {@link InputReplayer}. Must be called before the first game starts.
+     */
+    public void startInputRecording() {
+        synchronized (lock) {
+            inputRecorder = new InputRecorder(world);
+            world.setInputRecorder(inputRecorder);
+        }
+    }
+
+    /**
+     * Writes the input recorded so far to a file. Does nothing unless recording.
+     *
+     * @param file The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public void saveInputLog(File file) throws IOException {
+        byte[] log;
+
+        synchronized (lock) {
+            if (inputRecorder == null) {
+                return;
+            }
+
+            log = inputRecorder.toByteArray();
+        }
+
+        try (OutputStream out = new FileOutputStream(file)) {
+            out.write(log);
+        }
+    }
+
+    /**
+     * Enables or disables the instrumentation of the game loop. While enabled, tick and frame
+     * times, dropped frames and garbage collections are recorded and shown in an overlay below the
+     * score.
+     *
+     * @param enabled            True to record and show the statistics, false to stop recording.
+     * @param frameIntervalNanos The expected interval between frames, for counting dropped frames.
+     */
+    public void setInstrumentationEnabled(boolean enabled, long frameIntervalNanos) {
+        if (!enabled) {
+            frameStats = null;
+        } else if (frameStats == null) {
+            overlayFrames = 0;
+            frameStats = new FrameStats(frameIntervalNanos);
+        }
+    }
+
+    /**
+     * Gets the instrumentation of the game loop, for reading tick and frame statistics.
+     *
+     * @return The statistics, or null if instrumentation is disabled.
+     */
+    public FrameStats getFrameStats() {
+        return frameStats;
     }
 
     /**
@@ -453,7 +752,7 @@ public class GameView extends View {
      * @param listener The listener to handle game events for sound effects.
      */
     public void setOnGameEventListener(OnGameEventListener listener) {
-        this.onGameEventListener = listener;
+        world.setOnGameEventListener(listener);
     }
 
     /**
@@ -512,7 +811,10 @@ public class GameView extends View {
     }
 
     /**
-     * Handles touch events for user interaction.
+     * Handles touch events for user interaction. Platform movements are queued without locking
+     * and applied by the update thread at the next simulation step. Samples batched into a move
+     * event by getHistoricalX() lie between the previous and the current position, so the whole
+     * batch coalesces into the distance to the current position.
      *
      * @param event The motion event.
      * @return True if the event was handled, false otherwise.
@@ -529,12 +831,7 @@ public class GameView extends View {
                 break;
             case MotionEvent.ACTION_MOVE:
                 float currentTouchX = event.getX();
-                float deltaX = currentTouchX - startTouchX;
-
-                if (isPlaying) {
-                    platform.setX(platform.getX() + deltaX);
-                }
-
+                touchInput.offer(transform.toWorld(currentTouchX - startTouchX));
                 startTouchX = currentTouchX;
                 break;
             case MotionEvent.ACTION_UP:
@@ -0,0 +1,126 @@
+package com.example.bricks;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Heads-up display with the score and the remaining attempts.
+ * Labels are resolved and uppercased once; the digits are written into reusable char buffers and
+ * the text is measured again only when a value changes, so drawing does not allocate.
+ */
+public class Hud {
+
+    private static final float MARGIN = 10; // Distance of the text from the screen edges in pixels
+    private static final float BASELINE = 80; // Y-coordinate of the text baseline in pixels
+    private static final int MAX_DIGITS = 11; // Characters of the longest int, including the sign
+
+    private final Paint paint = new Paint(); // Paint object for drawing the text
+    private final int width; // Screen width in pixels
+    private final char[] scoreText; // Uppercased score label followed by the score digits
+    private final int scoreLabelLength; // Number of label characters in the score text
+    private int scoreLength; // Number of characters of the score text in use
+    private final char[] attemptsText; // Uppercased attempts label followed by the attempts digits
+    private final int attemptsLabelLength; // Number of label characters in the attempts text
+    private int attemptsLength; // Number of characters of the attempts text in use
+    private float attemptsX; // X-coordinate of the right-aligned attempts text
+    private int score = Integer.MIN_VALUE; // Score the text was built for
+    private int attempts = Integer.MIN_VALUE; // Attempts the text was built for
+
+    /**
+     * Constructs the HUD.
+     *
+     * @param context     The context to resolve the labels from.
+     * @param screenWidth The screen width in pixels.
+     */
+    public Hud(Context context, int screenWidth) {
+        width = screenWidth;
+        paint.setColor(Color.WHITE);
+        paint.setTextSize((float) screenWidth / 20);
+
+        String scoreLabel = context.getString(R.string.score_metric).toUpperCase();
+        scoreText = new char[scoreLabel.length() + MAX_DIGITS];
+        scoreLabel.getChars(0, scoreLabel.length(), scoreText, 0);
+        scoreLabelLength = scoreLabel.length();
+
+        String attemptsLabel = context.getString(R.string.attempts_metric).toUpperCase();
+        attemptsText = new char[attemptsLabel.length() + MAX_DIGITS];
+        attemptsLabel.getChars(0, attemptsLabel.length(), attemptsText, 0);
+        attemptsLabelLength = attemptsLabel.length();
+    }
+
+    /**
+     * Draws the score on the left and the attempts on the right of the top edge.
+     *
+     * @param canvas   The canvas on which to draw.
+     * @param score    The player's score.
+     * @param attempts The remaining attempts.
+     */
+    public void draw(@NonNull Canvas canvas, int score, int attempts) {
+        if (score != this.score) {
+            this.score = score;
+            scoreLength = scoreLabelLength + writeDigits(score, scoreText, scoreLabelLength);
+        }
+
+        if (attempts != this.attempts) {
+            this.attempts = attempts;
+            attemptsLength = attemptsLabelLength + writeDigits(attempts, attemptsText, attemptsLabelLength);
+            attemptsX = width - paint.measureText(attemptsText, 0, attemptsLength) - MARGIN;
+        }
+
+        canvas.drawText(scoreText, 0, scoreLength, MARGIN, BASELINE, paint);
+        canvas.drawText(attemptsText, 0, attemptsLength, attemptsX, BASELINE, paint);
+    }
+
+    /**
+     * Gets the baseline of the HUD text.
+     *
+     * @return The y-coordinate of the baseline.
+     */
+    public float getBaseline() {
+        return BASELINE;
+    }
+
+    /**
+     * Gets the bottom of the HUD text, including its descent.
+     *
+     * @return The y-coordinate of the bottom of the HUD.
+     */
+    public float getBottom() {
+        return BASELINE + paint.descent();
+    }
+
+    /**
+     * Writes the decimal digits of a value into a buffer.
+     *
+     * @param value  The value to write.
+     * @param buffer The buffer to write into.
+     * @param offset The index of the first character to write.
+     * @return The number of characters written.
+     */
+    private static int writeDigits(int value, char[] buffer, int offset) {
+        long remaining = Math.abs((long) value);
+        int digits = 1;
+
+        for (long bound = 10; bound <= remaining; bound *= 10) {
+            digits++;
+        }
+
+        int length = value < 0 ? digits + 1 : digits;
+
+        if (value < 0) {
+            buffer[offset] = '-';
+        }
+
+        for (int i = offset + length - 1; i >= offset + length - digits; i--) {
+            buffer[i] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+
+        return length;
+    }
+
+}
@@ -6,6 +6,8 @@ import android.os.Bundle;
 import android.os.Handler;
 import android.os.Looper;
 import android.os.Message;
+import android.util.Log;
+import android.view.Display;
 import android.view.Gravity;
 import android.view.View;
 import android.view.ViewGroup;
@@ -17,6 +19,10 @@ import androidx.annotation.NonNull;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.fragment.app.Fragment;
 
+import com.example.bricks.core.BrickStorage;
+
+import java.io.File;
+import java.io.IOException;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -30,9 +36,16 @@ public class MainActivity extends AppCompatActivity implements
         GameCompletedFragment.GameCompletedFragmentListener,
         GameOverFragment.GameOverFragmentListener {
 
-    private UpdateThread updateThread; // Thread for updating the game state
-    private Handler updateHandler; // Handler for processing game updates
+    private UpdateThread updateThread; // Game loop thread for updating the game state
+    private Handler updateHandler; // Handler for rendering frames and processing game state changes
+    private static final RenderMode RENDER_MODE = RenderMode.SURFACE; // Rendering backend used for the game
+    private static final FramePacing FRAME_PACING = FramePacing.VSYNC; // Timing source of the game loop
+    private static final BrickStorage BRICK_STORAGE = BrickStorage.ARRAYS; // Representation of the bricks in the game world
+    private static final boolean SHOW_INSTRUMENTATION = false; // Shows tick and frame statistics over the game
+    private static final boolean RECORD_INPUT = false; // Records the input of each session for headless replays
+    private static final String INPUT_LOG_FILE = "input.brkr"; // Recorded input, in the app's files directory
     private GameView gameView; // Custom view for rendering the game
+    private GameSurfaceView gameSurfaceView; // Surface rendering backend, null in VIEW render mode
 
     private SettingsPanelView panel; // Settings panel for toggling game options
 
@@ -64,6 +77,12 @@ public class MainActivity extends AppCompatActivity implements
         }
 
         gameView = new GameView(this, null); // Initialize the custom game view
+        gameView.setBrickStorage(BRICK_STORAGE);
+        gameView.setInstrumentationEnabled(SHOW_INSTRUMENTATION, getFrameIntervalNanos());
+
+        if (RECORD_INPUT) {
+            gameView.startInputRecording();
+        }
 
         // Set up the settings panel
         FrameLayout main_activity = findViewById(R.id.main);
@@ -140,6 +159,10 @@ public class MainActivity extends AppCompatActivity implements
 
                 gameView.setIsPlaying(playOn);
 
+                if (updateThread != null) {
+                    updateThread.wake(); // The loop idles while the game is paused
+                }
+
                 if (!playOn) {
                     gameView.pauseMusicPlayback();
                 } else {
@@ -152,6 +175,17 @@ public class MainActivity extends AppCompatActivity implements
 
         // Add the game view to the game container
         FrameLayout gameContainer = findViewById(R.id.game_container);
+
+        if (RENDER_MODE == RenderMode.SURFACE) {
+            // The surface below renders the game, the game view on top only handles touches
+            gameSurfaceView = new GameSurfaceView(this, gameView);
+            gameContainer.addView(gameSurfaceView,
+                    new FrameLayout.LayoutParams(
+                            ViewGroup.LayoutParams.MATCH_PARENT,
+                            ViewGroup.LayoutParams.MATCH_PARENT));
+            gameView.setWillNotDraw(true);
+        }
+
         gameContainer.addView(gameView,
                 new FrameLayout.LayoutParams(
                         ViewGroup.LayoutParams.MATCH_PARENT,
@@ -159,7 +193,7 @@ public class MainActivity extends AppCompatActivity implements
 
         // Create the handler for game updates
         createHandler();
-        updateThread = new UpdateThread(updateHandler);
+        updateThread = createUpdateThread();
 
         setPanelEnabled(true);
 
@@ -200,7 +234,7 @@ public class MainActivity extends AppCompatActivity implements
             gameView.setIsPlaying(true);
 
             // Start the game update thread and the game
-            updateThread = new UpdateThread(updateHandler);
+            updateThread = createUpdateThread();
             updateThread.start();
             gameView.startGame();
 
@@ -229,7 +263,7 @@ public class MainActivity extends AppCompatActivity implements
 
         // Restart the game update thread
         if (gameView.isPlaying() && (updateThread == null || !updateThread.isAlive())) {
-            updateThread = new UpdateThread(updateHandler);
+            updateThread = createUpdateThread();
             updateThread.start();
         }
     }
@@ -247,7 +281,8 @@ public class MainActivity extends AppCompatActivity implements
     }
 
     /**
-     * Saves preferences and interrupts the update thread when the activity is paused.
+     * Saves preferences and the recorded input, and parks the update thread when the activity is
+     * paused.
      */
     @Override
     protected void onPause() {
@@ -260,9 +295,17 @@ public class MainActivity extends AppCompatActivity implements
                 .putBoolean("musicOn", panel != null && panel.isMusicOn())
                 .apply();
 
-        // Interrupt the update thread if the game is playing
-        if (gameView.isPlaying() && updateThread != null && updateThread.isAlive()) {
-            updateThread.interrupt();
+        // Park the update thread if it is running
+        if (updateThread != null && updateThread.isAlive()) {
+            updateThread.onPause();
+        }
+
+        if (RECORD_INPUT) {
+            try {
+                gameView.saveInputLog(new File(getFilesDir(), INPUT_LOG_FILE));
+            } catch (IOException e) {
+                Log.e("MainActivity", "Error saving input log", e);
+            }
         }
     }
 
@@ -273,22 +316,55 @@ public class MainActivity extends AppCompatActivity implements
     protected void onResume() {
         super.onResume();
 
-        // Restart the update thread if the game is playing
-        if (gameView.isPlaying() && (updateThread == null || !updateThread.isAlive())) {
-            updateThread = new UpdateThread(updateHandler);
+        // Wake the parked update thread, or restart it if the game is playing
+        if (updateThread != null && updateThread.isAlive()) {
+            updateThread.onResume();
+        } else if (gameView.isPlaying()) {
+            updateThread = createUpdateThread();
             updateThread.start();
         }
     }
 
     /**
-     * Creates a handler for processing game updates.
+     * Creates a game loop thread wired to the selected rendering backend.
+     *
+     * @return A new, not yet started, update thread.
+     */
+    private UpdateThread createUpdateThread() {
+        UpdateThread thread = new UpdateThread(gameView, updateHandler, FRAME_PACING);
+        thread.setSurfaceRenderer(gameSurfaceView);
+        return thread;
+    }
+
+    /**
+     * Gets the expected interval between frames of the game loop, which follows the display
+     * refresh rate when paced by vsync.
+     *
+     * @return The frame interval in nanoseconds.
+     */
+    private long getFrameIntervalNanos() {
+        if (FRAME_PACING == FramePacing.VSYNC) {
+            Display display = getDisplay();
+
+            if (display != null && display.getRefreshRate() > 0) {
+                return (long) (1_000_000_000L / display.getRefreshRate());
+            }
+        }
+
+        return UpdateThread.FRAME_INTERVAL_NANOS;
+    }
+
+    /**
+     * Creates a handler for rendering frames produced by the update thread and processing game
+     * state changes on the UI thread.
      */
     private void createHandler() {
         updateHandler = new Handler(Looper.getMainLooper()) {
             @Override
             public void handleMessage(@NonNull Message msg) {
-                gameView.update();
-                gameView.invalidate();
+                if (RENDER_MODE == RenderMode.VIEW) {
+                    gameView.invalidateDirty();
+                }
 
                 // Check game state and show appropriate fragments
                 if (gameView.isLevelCleared()) {
@@ -0,0 +1,94 @@
+package com.example.bricks;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.util.DisplayMetrics;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Pause screen with the pause message and the hint how to resume.
+ * Strings, text sizes and positions are resolved once; the screen is rendered into a cached bitmap
+ * on first use, so showing it again is a single bitmap blit.
+ */
+public class PauseScreen {
+
+    private final int width; // Screen width in pixels
+    private final int height; // Screen height in pixels
+    private final String pauseMsg; // Pause message in the center of the screen
+    private final String tapToResumeMsg; // Hint at the bottom of the screen
+    private final float hintTextSize; // Text size of the hint in pixels, 16sp
+    private final float hintMargin; // Distance of the hint from the bottom edge in pixels, 12dp
+    private final int hintColor; // Theme default text color used for the hint
+    private Bitmap bitmap; // Rendered pause screen, null until first drawn or after release
+
+    /**
+     * Constructs the pause screen.
+     *
+     * @param context        The context to resolve strings and display metrics from.
+     * @param width          The screen width in pixels.
+     * @param height         The screen height in pixels.
+     * @param themeTextColor The theme default text color, used for the hint.
+     */
+    public PauseScreen(Context context, int width, int height, int themeTextColor) {
+        this.width = width;
+        this.height = height;
+        this.pauseMsg = context.getString(R.string.game_paused_msg);
+        this.tapToResumeMsg = context.getString(R.string.tap_to_resume_text);
+
+        DisplayMetrics metrics = context.getResources().getDisplayMetrics();
+        this.hintTextSize = 16f * metrics.scaledDensity; // 16sp
+        this.hintMargin = metrics.density * 12f; // 12dp
+        this.hintColor = themeTextColor;
+    }
+
+    /**
+     * Draws the pause screen, rendering it into the cached bitmap first if needed.
+     *
+     * @param canvas The canvas on which to draw.
+     */
+    public void draw(@NonNull Canvas canvas) {
+        if (bitmap == null) {
+            bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.RGB_565); // Opaque, half the memory of ARGB
+            render(new Canvas(bitmap));
+        }
+
+        canvas.drawBitmap(bitmap, 0, 0, null);
+    }
+
+    /**
+     * Renders the pause screen.
+     *
+     * @param canvas The canvas on which to render.
+     */
+    private void render(@NonNull Canvas canvas) {
+        Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        canvas.drawColor(Color.BLACK);
+        paint.setColor(Color.WHITE);
+        paint.setTextSize((float) width / 10);
+        float x_pos = (float) width / 2 - paint.measureText(pauseMsg) / 2;
+        canvas.drawText(pauseMsg, x_pos, (float) height / 2, paint);
+
+        // Draw bottom-centered hint
+        paint.setTextAlign(Paint.Align.CENTER);
+        paint.setTextSize(hintTextSize);
+        Paint.FontMetrics fm = paint.getFontMetrics();
+        float baselineY = height - hintMargin - fm.bottom;
+        paint.setColor(hintColor); // Use theme default text color
+        canvas.drawText(tapToResumeMsg, (float) width / 2f, baselineY, paint);
+    }
+
+    /**
+     * Releases the cached bitmap. The screen is rendered again when it is drawn next.
+     */
+    public void release() {
+        if (bitmap != null) {
+            bitmap.recycle();
+            bitmap = null;
+        }
+    }
+
+}
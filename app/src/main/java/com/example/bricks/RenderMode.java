@@ -0,0 +1,9 @@
+package com.example.bricks;
+
+/**
+ * Enum representing the available rendering backends for the game.
+ */
+public enum RenderMode {
+    VIEW, // Game is drawn in GameView.onDraw() after invalidate() on the UI thread
+    SURFACE, // Game is drawn by the update thread into a hardware canvas of a GameSurfaceView
+}
@@ -1,29 +1,84 @@
 package com.example.bricks;
 
 import android.os.Handler;
+import android.os.HandlerThread;
+import android.view.Choreographer;
+
+import com.example.bricks.core.LoopScheduler;
 
 /**
- * A thread responsible for periodically sending update messages to a handler.
- * This is used to manage game updates at a fixed interval.
+ * Dedicated game loop thread.
+ * Advances the simulation in fixed time steps independently of the UI thread and notifies the
+ * handler once per rendered frame, so the view can be redrawn with an interpolated state.
+ * When a surface renderer is set, frames are drawn directly from this thread instead, and the
+ * handler is only notified when the game stops playing.
+ * The loop is suspended while the activity is in the background, and goes idle after showing one
+ * frame of a game that is not playing (paused, level cleared, game over) until {@link #wake()};
+ * a suspended loop causes no wakeups at all.
+ * With {@link FramePacing#VSYNC} the loop runs on Choreographer frame callbacks instead of
+ * sleeping, so frames follow the display refresh rate while the simulation keeps its fixed step.
  */
-public class UpdateThread implements Runnable {
+public class UpdateThread implements Runnable, Choreographer.FrameCallback {
+
+    public static final int UPDATE_INTERVAL = 20; // Fixed simulation step in milliseconds
+    private static final long STEP_NANOS = UPDATE_INTERVAL * 1_000_000L; // Fixed simulation step in nanoseconds
+    public static final long FRAME_INTERVAL_NANOS = 1_000_000_000L / 60; // Target interval between rendered frames
+    private static final int MAX_STEPS_PER_FRAME = 5; // Catch-up cap, avoids the spiral of death after a long stall
+    private static final int MSG_FRAME = 0; // Message sent to the handler when a new frame is ready
+
+    private final GameView gameView; // Game view whose simulation is advanced by this loop
+    private final Handler updateHandler; // Handler on the UI thread that renders frames and checks game state
+    private final FramePacing pacing; // Timing source of the loop
+    private volatile GameSurfaceView surfaceRenderer; // Surface drawn from this thread, null to render through the handler
+    private Thread thread; // Thread running the game loop
+    private volatile Handler loopHandler; // Handler of the looper thread in VSYNC mode, null otherwise
+    private volatile boolean running = false; // Flag to indicate whether the loop is active
+    private final LoopScheduler scheduler = new LoopScheduler(); // Suspends the loop when nothing needs to run
+    private final Runnable scheduleFrame = this::scheduleFrame; // Reschedules frames after a resume in VSYNC mode
 
-    private static final int UPDATE_INTERVAL = 20; // Interval in milliseconds between updates
-    private final Handler updateHandler; // Handler to schedule and execute tasks
-    private boolean running = false; // Flag to indicate whether the updates are active
+    // Loop thread state
+    private long previousTime; // Start of the previous frame
+    private long accumulator; // Elapsed time not simulated yet, in nanoseconds
+    private boolean resetClock; // Whether the next frame starts the clock afresh, after a suspension
+    private Choreographer choreographer; // Frame callback source of the looper thread in VSYNC mode
+    private boolean frameScheduled; // Whether a frame callback is pending in VSYNC mode
+
+    /**
+     * Constructs an UpdateThread for the specified game view, sleeping between frames.
+     *
+     * @param gameView The game view whose simulation is advanced by the loop.
+     * @param handler  The `Handler` notified on the UI thread after each frame.
+     */
+    public UpdateThread(GameView gameView, Handler handler) {
+        this(gameView, handler, FramePacing.SLEEP);
+    }
 
     /**
-     * Constructs an UpdateThread with the specified handler.
+     * Constructs an UpdateThread for the specified game view.
      *
-     * @param handler The `Handler` used to schedule and execute tasks.
+     * @param gameView The game view whose simulation is advanced by the loop.
+     * @param handler  The `Handler` notified on the UI thread after each frame.
+     * @param pacing   The timing source of the loop.
      */
-    public UpdateThread(Handler handler) {
+    public UpdateThread(GameView gameView, Handler handler, FramePacing pacing) {
+        this.gameView = gameView;
         this.updateHandler = handler;
+        this.pacing = pacing;
     }
 
     /**
-     * Starts the periodic updates. This method is idempotent, meaning it has no effect if the
-     * updates are already running.
+     * Sets the surface the game loop renders frames into.
+     *
+     * @param surfaceRenderer The surface to draw into, or null to let the UI thread redraw the
+     *                        game view on each frame message.
+     */
+    public void setSurfaceRenderer(GameSurfaceView surfaceRenderer) {
+        this.surfaceRenderer = surfaceRenderer;
+    }
+
+    /**
+     * Starts the game loop. This method is idempotent, meaning it has no effect if the loop is
+     * already running.
      */
     public synchronized void start() {
         if (running) {
@@ -31,20 +86,43 @@ public class UpdateThread implements Runnable {
         }
 
         running = true;
-        updateHandler.post(this);
+        resetClock = true;
+        scheduler.resume(LoopScheduler.SUSPEND_BACKGROUND | LoopScheduler.SUSPEND_IDLE);
+
+        if (pacing == FramePacing.VSYNC) {
+            choreographer = null; // Bound to the new looper thread on its first frame
+            frameScheduled = false;
+            HandlerThread looperThread = new HandlerThread("UpdateThread");
+            looperThread.start();
+            thread = looperThread;
+            loopHandler = new Handler(looperThread.getLooper());
+            loopHandler.post(scheduleFrame);
+        } else {
+            thread = new Thread(this, "UpdateThread");
+            thread.start();
+        }
     }
 
     /**
-     * Stops the periodic updates. This method is idempotent, meaning it has no effect if the
-     * updates are already stopped.
+     * Stops the game loop. This method is idempotent, meaning it has no effect if the loop is
+     * already stopped.
      */
     public synchronized void stop() {
         running = false;
-        updateHandler.removeCallbacks(this);
+
+        if (thread instanceof HandlerThread) {
+            ((HandlerThread) thread).quit(); // Drops the pending frame callback
+            loopHandler = null;
+        } else if (thread != null) {
+            thread.interrupt(); // Also ends a suspension
+        }
+
+        thread = null;
+        updateHandler.removeMessages(MSG_FRAME);
     }
 
     /**
-     * Interrupts the update thread, stopping periodic updates.
+     * Interrupts the update thread, stopping the game loop.
      */
     public void interrupt() {
         stop();
@@ -60,17 +138,170 @@ public class UpdateThread implements Runnable {
     }
 
     /**
-     * Runs the update loop, sending messages to the handler at fixed intervals.
-     * The loop continues until the thread is stopped.
+     * Parks the game loop without terminating the thread. Intended to be called from the
+     * activity's onPause().
+     */
+    public void onPause() {
+        scheduler.suspend(LoopScheduler.SUSPEND_BACKGROUND);
+    }
+
+    /**
+     * Wakes a parked game loop. The time spent parked is not simulated. Intended to be called from
+     * the activity's onResume().
+     */
+    public void onResume() {
+        scheduler.resume(LoopScheduler.SUSPEND_BACKGROUND);
+        rescheduleFrame();
+    }
+
+    /**
+     * Wakes the loop if it went idle because the game was not playing. Must be called after every
+     * change that may resume the game, such as the play toggle of the settings panel.
+     */
+    public void wake() {
+        scheduler.wake();
+        rescheduleFrame();
+    }
+
+    /**
+     * Gets the number of times the loop resumed after being suspended or idle.
+     *
+     * @return The number of wakeups.
+     */
+    public long getWakeupCount() {
+        return scheduler.getWakeupCount();
+    }
+
+    /**
+     * Runs the sleeping game loop until the thread is stopped.
      */
     @Override
     public void run() {
+        try {
+            while (running) {
+                if (scheduler.awaitRunnable()) {
+                    resetClock = true; // Do not try to catch up with the time spent suspended
+                }
+
+                long frameStart = System.nanoTime();
+                runFrame(frameStart);
+
+                if (!running || scheduler.isSuspended()) {
+                    continue;
+                }
+
+                long sleepNanos = FRAME_INTERVAL_NANOS - (System.nanoTime() - frameStart);
+
+                if (sleepNanos > 0) {
+                    Thread.sleep(sleepNanos / 1_000_000L, (int) (sleepNanos % 1_000_000L));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // Preserve the interrupt status and let the loop end
+        }
+    }
+
+    /**
+     * Runs a frame on the Choreographer callback of the looper thread in VSYNC mode.
+     *
+     * @param frameTimeNanos The time the frame started rendering, from System.nanoTime().
+     */
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        frameScheduled = false;
+
         if (!running) {
             return;
         }
 
-        updateHandler.sendEmptyMessage(0); // Send an update message
-        updateHandler.postDelayed(this, UPDATE_INTERVAL); // Schedule the next execution
+        runFrame(frameTimeNanos);
+        scheduleFrame();
+    }
+
+    /**
+     * Posts a frame callback on the looper thread after a resume or wake in VSYNC mode.
+     */
+    private void rescheduleFrame() {
+        Handler handler = loopHandler;
+
+        if (handler != null) {
+            handler.post(scheduleFrame);
+        }
+    }
+
+    /**
+     * Requests the next frame callback unless the loop is suspended. Runs on the looper thread.
+     */
+    private void scheduleFrame() {
+        if (!running || frameScheduled) {
+            return;
+        }
+
+        if (!scheduler.pollRunnable()) {
+            resetClock = true; // Rescheduled by the resume or wake that ends the suspension
+            return;
+        }
+
+        if (choreographer == null) {
+            choreographer = Choreographer.getInstance();
+        }
+
+        choreographer.postFrameCallback(this);
+        frameScheduled = true;
+    }
+
+    /**
+     * Runs one frame: accumulates elapsed time, advances the simulation in fixed steps and
+     * requests a frame with the remaining fraction of a step as interpolation factor. Goes idle
+     * after a frame that showed a game that is not playing.
+     *
+     * @param frameStart The start time of the frame, from System.nanoTime().
+     */
+    private void runFrame(long frameStart) {
+        long wakeToken = scheduler.getWakeToken();
+        boolean playing = gameView.isPlaying(); // Read after the token, so no wake is missed
+
+        if (resetClock) {
+            resetClock = false;
+            previousTime = frameStart;
+            accumulator = 0;
+        }
+
+        accumulator += Math.max(0, frameStart - previousTime);
+        previousTime = frameStart;
+
+        int steps = 0;
+
+        while (running && accumulator >= STEP_NANOS && steps < MAX_STEPS_PER_FRAME) {
+            gameView.update();
+            accumulator -= STEP_NANOS;
+            steps++;
+        }
+
+        if (accumulator >= STEP_NANOS) {
+            accumulator %= STEP_NANOS; // Drop the backlog that exceeds the catch-up cap
+        }
+
+        if (!running) {
+            return;
+        }
+
+        gameView.setInterpolation((float) accumulator / STEP_NANOS);
+
+        GameSurfaceView renderer = surfaceRenderer;
+
+        if (renderer != null) {
+            renderer.render(); // Render the frame on this thread
+        }
+
+        // The UI thread redraws the view each frame, or only checks the game state when it stopped playing
+        if ((renderer == null || !playing) && !updateHandler.hasMessages(MSG_FRAME)) {
+            updateHandler.sendEmptyMessage(MSG_FRAME);
+        }
+
+        if (!playing) {
+            scheduler.goIdle(wakeToken); // This frame showed the stopped game, nothing changes until a wake
+        }
     }
 
 }
@@ -0,0 +1,96 @@
+package com.example.bricks.benchmarks;
+
+import com.example.bricks.core.Brick;
+import com.example.bricks.core.BrickField;
+import com.example.bricks.core.BrickGrid;
+import com.example.bricks.core.BrickStorage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of filling a brick store and destroying every brick in random order.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BrickRemovalBenchmark {
+
+    @Param({"60", "1000", "10000"})
+    public int bricks; // Number of bricks in the level
+
+    @Param({"OBJECTS", "ARRAYS"})
+    public BrickStorage storage; // Representation of the bricks
+
+    private Brick[] brickObjects; // Bricks placed into the grid, created once
+    private int[] removalOrder; // Cell indices in the order the bricks are destroyed
+
+    /**
+     * Creates the bricks and a shuffled removal order.
+     */
+    @Setup
+    public void setUp() {
+        brickObjects = new Brick[bricks];
+        removalOrder = new int[bricks];
+
+        for (int i = 0; i < bricks; i++) {
+            brickObjects[i] = new Brick((i % StressLevels.COLUMNS) * 108f, (i / StressLevels.COLUMNS) * 57f, 103f, 51f, i % 7);
+            removalOrder[i] = i;
+        }
+
+        Random random = new Random(42);
+
+        for (int i = bricks - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = removalOrder[i];
+            removalOrder[i] = removalOrder[j];
+            removalOrder[j] = swap;
+        }
+    }
+
+    /**
+     * Fills a store with all bricks and removes them one by one.
+     *
+     * @return The number of bricks left, consumed to keep the work alive.
+     */
+    @Benchmark
+    public int fillAndRemoveAll() {
+        int rows = StressLevels.rows(bricks);
+
+        if (storage == BrickStorage.ARRAYS) {
+            BrickField field = new BrickField(StressLevels.COLUMNS, rows, 108f, 57f);
+
+            for (int i = 0; i < bricks; i++) {
+                field.put(i % StressLevels.COLUMNS, i / StressLevels.COLUMNS, brickObjects[i]);
+            }
+
+            for (int index : removalOrder) {
+                field.remove(index);
+            }
+
+            return field.size();
+        }
+
+        BrickGrid grid = new BrickGrid(StressLevels.COLUMNS, rows, 108f, 57f);
+
+        for (int i = 0; i < bricks; i++) {
+            grid.put(i % StressLevels.COLUMNS, i / StressLevels.COLUMNS, brickObjects[i]);
+        }
+
+        for (int index : removalOrder) {
+            grid.remove(index);
+        }
+
+        return grid.size();
+    }
+
+}
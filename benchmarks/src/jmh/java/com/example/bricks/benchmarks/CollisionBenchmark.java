@@ -0,0 +1,110 @@
+package com.example.bricks.benchmarks;
+
+import com.example.bricks.core.Ball;
+import com.example.bricks.core.BrickStorage;
+import com.example.bricks.core.BrickStore;
+import com.example.bricks.core.Collision;
+import com.example.bricks.core.Contact;
+import com.example.bricks.core.GameWorld;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the collision hot path: brick lookups against a full level and the ball movement
+ * with wall bounces (the former Ball.update()).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CollisionBenchmark {
+
+    private static final int QUERIES = 1024; // Number of precomputed query positions, a power of two
+
+    @Param({"60", "1000", "10000"})
+    public int bricks; // Number of bricks in the level
+
+    @Param({"OBJECTS", "ARRAYS"})
+    public BrickStorage storage; // Representation of the bricks
+
+    private BrickStore grid; // Full brick store of the level
+    private final float[] queryX = new float[QUERIES]; // X-coordinates of the queries
+    private final float[] queryY = new float[QUERIES]; // Y-coordinates of the queries
+    private final Contact contact = new Contact(); // Reused contact
+    private float radius; // Ball radius
+    private int next; // Index of the next query
+    private Ball ball; // Ball moved by the ball benchmark
+    private float height; // World height
+
+    /**
+     * Lays out the level and spreads the queries over the area covered by bricks.
+     */
+    @Setup
+    public void setUp() {
+        GameWorld world = StressLevels.createWorld(bricks);
+        world.setBrickStorage(storage);
+        world.startGame();
+        grid = world.getBricks();
+        radius = world.getBall().getRadius();
+        height = world.getHeight();
+        ball = new Ball(world.getWidth() / 2, height / 2, radius, 500, 500);
+
+        // Bricks cover the top rows of the world, roughly 57 pixels per row on a 1080 pixel wide screen
+        float brickArea = StressLevels.rows(bricks) * 57f;
+        Random random = new Random(42);
+
+        for (int i = 0; i < QUERIES; i++) {
+            queryX[i] = random.nextFloat() * StressLevels.WIDTH;
+            queryY[i] = random.nextFloat() * brickArea;
+        }
+    }
+
+    /**
+     * Finds the brick colliding with a ball at the next query position.
+     *
+     * @return The cell index, consumed to keep the work alive.
+     */
+    @Benchmark
+    public int findColliding() {
+        int i = next++ & (QUERIES - 1);
+        return grid.findColliding(queryX[i], queryY[i], radius, contact);
+    }
+
+    /**
+     * Sweeps a ball from the next query position along one step of its default velocity.
+     *
+     * @return The cell index, consumed to keep the work alive.
+     */
+    @Benchmark
+    public int sweep() {
+        int i = next++ & (QUERIES - 1);
+        return grid.sweep(queryX[i], queryY[i], radius, 10f, -10f, contact);
+    }
+
+    /**
+     * Moves the ball by one step and bounces it off the walls of the world.
+     *
+     * @return The ball position, consumed to keep the work alive.
+     */
+    @Benchmark
+    public float ballStep() {
+        ball.savePosition();
+        ball.advance(GameWorld.STEP_SECONDS);
+
+        if (Collision.circleTouchesWalls(ball.getX(), ball.getY(), ball.getRadius(), 0, 0, StressLevels.WIDTH, height, contact)) {
+            ball.bounce(contact);
+        }
+
+        return ball.getX() + ball.getY();
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.example.bricks.benchmarks;
+
+import com.example.bricks.core.LevelFormat;
+import com.example.bricks.core.LevelMap;
+import com.example.bricks.core.LevelParser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of reading a level map from its text form and from the compiled binary form.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LevelLoadBenchmark {
+
+    @Param({"60", "1000", "10000"})
+    public int bricks; // Number of bricks in the level
+
+    private String text; // Level map in the text format
+    private ByteBuffer binary; // Level map in the binary format, direct like a mapped file
+
+    /**
+     * Generates the level map in both formats.
+     *
+     * @throws IOException Never, the text is read from memory.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        text = StressLevels.generate(bricks);
+        byte[] encoded = LevelFormat.encode(LevelParser.parse(new StringReader(text)));
+        binary = ByteBuffer.allocateDirect(encoded.length);
+        binary.put(encoded);
+    }
+
+    /**
+     * Parses the text level map.
+     *
+     * @return The level map.
+     * @throws IOException Never, the text is read from memory.
+     */
+    @Benchmark
+    public LevelMap parseText() throws IOException {
+        return LevelParser.parse(new StringReader(text));
+    }
+
+    /**
+     * Decodes the binary level map.
+     *
+     * @return The level map.
+     * @throws IOException Never, the level is valid.
+     */
+    @Benchmark
+    public LevelMap decodeBinary() throws IOException {
+        binary.rewind();
+        return LevelFormat.decode(binary);
+    }
+
+}
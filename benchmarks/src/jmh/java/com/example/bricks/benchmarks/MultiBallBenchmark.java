@@ -0,0 +1,96 @@
+package com.example.bricks.benchmarks;
+
+import com.example.bricks.core.BallPool;
+import com.example.bricks.core.BrickStorage;
+import com.example.bricks.core.GameWorld;
+import com.example.bricks.core.Platform;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of one simulation step with many extra balls in play. The target of the multi-ball
+ * mode is 500 balls on a 2000 brick level well within the 20 ms step.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MultiBallBenchmark {
+
+    @Param({"1", "100", "500"})
+    public int balls; // Number of extra balls kept in play
+
+    @Param({"2000"})
+    public int bricks; // Number of bricks in the level
+
+    @Param({"OBJECTS", "ARRAYS"})
+    public BrickStorage storage; // Representation of the bricks
+
+    @Param({"false", "true"})
+    public boolean parallel; // Whether the narrow phase runs on the common fork/join pool
+
+    private GameWorld world; // World under test
+    private int spawned; // Balls spawned since the game started, varies their directions
+
+    /**
+     * Creates the world and starts a game with the extra balls.
+     */
+    @Setup
+    public void setUp() {
+        world = StressLevels.createWorld(bricks);
+        world.setBrickStorage(storage);
+        world.setCollisionPool(parallel ? ForkJoinPool.commonPool() : null);
+        restart();
+    }
+
+    /**
+     * Simulates one step with a platform that follows the main ball. Lost extra balls are
+     * replaced, so the pool stays full; a finished game or level is restarted.
+     *
+     * @return The score, consumed to keep the work alive.
+     */
+    @Benchmark
+    public int step() {
+        if (!world.isPlaying()) {
+            restart();
+        }
+
+        topUp();
+        Platform platform = world.getPlatform();
+        world.movePlatformBy(world.getBall().getX() - platform.getCenterX());
+        world.step(GameWorld.STEP_SECONDS);
+        return world.getScore();
+    }
+
+    /**
+     * Starts a new game and fills the pool.
+     */
+    private void restart() {
+        world.startGame();
+        spawned = 0;
+        topUp();
+    }
+
+    /**
+     * Spawns extra balls from the center of the world, fanned out upwards, until the pool holds
+     * the configured number.
+     */
+    private void topUp() {
+        BallPool pool = world.getBalls();
+
+        while (pool.size() < balls) {
+            float xSpeed = (spawned++ % 21 - 10) * 40;
+            world.spawnBall(world.getWidth() / 2, world.getHeight() / 2, xSpeed, -700);
+        }
+    }
+
+}
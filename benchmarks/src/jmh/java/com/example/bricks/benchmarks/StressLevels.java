@@ -0,0 +1,75 @@
+package com.example.bricks.benchmarks;
+
+import com.example.bricks.core.GameWorld;
+import com.example.bricks.core.LevelParser;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+
+/**
+ * Level maps and worlds of a given brick count for the benchmarks.
+ */
+final class StressLevels {
+
+    static final int COLUMNS = 10; // Bricks per row, as in the shipped level maps
+    static final float WIDTH = 1080; // World width of a common 1080p portrait screen
+    private static final float MIN_HEIGHT = 2400; // World height of a common 1080p portrait screen
+    private static final float ROW_ALLOWANCE = 120; // Extra world height per row, keeps the ball start below the bricks
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private StressLevels() {
+    }
+
+    /**
+     * Generates the text of a level map, rows of {@link #COLUMNS} bricks with cycling colors.
+     *
+     * @param bricks The number of bricks.
+     * @return The level map text.
+     */
+    static String generate(int bricks) {
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < bricks; i++) {
+            if (i > 0 && i % COLUMNS == 0) {
+                builder.append('\n');
+            }
+
+            builder.append((char) ('0' + (i / COLUMNS) % 7));
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Gets the number of rows of a generated level map.
+     *
+     * @param bricks The number of bricks.
+     * @return The number of rows.
+     */
+    static int rows(int bricks) {
+        return (bricks + COLUMNS - 1) / COLUMNS;
+    }
+
+    /**
+     * Creates a world that plays the generated level map on every level.
+     *
+     * @param bricks The number of bricks.
+     * @return The game world, not started.
+     */
+    static GameWorld createWorld(int bricks) {
+        String map = generate(bricks);
+        float height = Math.max(MIN_HEIGHT, MIN_HEIGHT + rows(bricks) * ROW_ALLOWANCE);
+
+        return new GameWorld(WIDTH, height, level -> {
+            try {
+                return LevelParser.parse(new StringReader(map));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.example.bricks.benchmarks;
+
+import com.example.bricks.core.BrickStorage;
+import com.example.bricks.core.GameWorld;
+import com.example.bricks.core.Platform;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the game world: one simulation step (the former GameView.update() with
+ * checkCollisions()) and restarting a level.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WorldBenchmark {
+
+    @Param({"60", "1000", "10000"})
+    public int bricks; // Number of bricks in the level
+
+    @Param({"OBJECTS", "ARRAYS"})
+    public BrickStorage storage; // Representation of the bricks
+
+    private GameWorld world; // World under test
+    private int steps; // Steps simulated since the game started, drives the autopilot
+
+    /**
+     * Creates the world and starts a game.
+     */
+    @Setup
+    public void setUp() {
+        world = StressLevels.createWorld(bricks);
+        world.setBrickStorage(storage);
+        world.startGame();
+    }
+
+    /**
+     * Simulates one step with a platform that follows the ball. A finished game or level is
+     * restarted, which is rare compared to the number of steps.
+     *
+     * @return The score, consumed to keep the work alive.
+     */
+    @Benchmark
+    public int step() {
+        if (!world.isPlaying()) {
+            if (world.isLevelCleared()) {
+                world.startNextLevel();
+            } else {
+                world.startGame();
+                steps = 0;
+            }
+        }
+
+        Platform platform = world.getPlatform();
+        float offset = ((steps / 100) % 5 - 2) * (platform.getRight() - platform.getLeft()) / 6;
+        world.movePlatformBy(world.getBall().getX() + offset - platform.getCenterX());
+        world.step(GameWorld.STEP_SECONDS);
+        steps++;
+        return world.getScore();
+    }
+
+    /**
+     * Starts a game, which fills a new brick grid from the cached layout of the first level.
+     *
+     * @return The number of bricks laid out.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int loadLevel() {
+        world.startGame();
+        return world.getBricks().size();
+    }
+
+}
@@ -0,0 +1,275 @@
+package com.example.bricks.core;
+
+/**
+ * Represents the ball object in the game.
+ * The ball moves around the screen, bounces off walls, the platform, and bricks.
+ */
+public class Ball {
+
+    private static final float PLATFORM_STEERING = 5f; // Horizontal speed gained per world unit of distance from the platform center
+    private float radius; // Radius of the ball
+    private float x; // X-coordinate of the ball's center
+    private float y; // Y-coordinate of the ball's center
+    private float previousX; // X-coordinate of the ball's center before the last update
+    private float previousY; // Y-coordinate of the ball's center before the last update
+    private float xSpeed; // Speed of the ball in the X direction, in world units per second
+    private float ySpeed; // Speed of the ball in the Y direction, in world units per second
+
+    /**
+     * Constructs a new Ball object.
+     *
+     * @param x      The initial x-coordinate of the ball's center.
+     * @param y      The initial y-coordinate of the ball's center.
+     * @param radius The radius of the ball.
+     * @param xSpeed The initial horizontal speed of the ball, in world units per second.
+     * @param ySpeed The initial vertical speed of the ball, in world units per second.
+     */
+    public Ball(float x, float y, float radius, float xSpeed, float ySpeed) {
+        reset(x, y, radius, xSpeed, ySpeed);
+    }
+
+    /**
+     * Places the ball anew, e.g. after a lost life, so the ball object can be reused.
+     *
+     * @param x      The x-coordinate of the ball's center.
+     * @param y      The y-coordinate of the ball's center.
+     * @param radius The radius of the ball.
+     * @param xSpeed The horizontal speed of the ball, in world units per second.
+     * @param ySpeed The vertical speed of the ball, in world units per second.
+     */
+    public final void reset(float x, float y, float radius, float xSpeed, float ySpeed) {
+        this.x = x;
+        this.y = y;
+        this.previousX = x;
+        this.previousY = y;
+        this.radius = radius;
+        this.xSpeed = xSpeed;
+        this.ySpeed = ySpeed;
+    }
+
+    /**
+     * Remembers the current position as the previous one for interpolated rendering.
+     * Called at the start of each simulation step.
+     */
+    public void savePosition() {
+        previousX = x;
+        previousY = y;
+    }
+
+    /**
+     * Moves the ball along its velocity without any collision handling.
+     *
+     * @param dt The time to move for, in seconds.
+     */
+    public void advance(float dt) {
+        x += xSpeed * dt;
+        y += ySpeed * dt;
+    }
+
+    /**
+     * Tests the ball against a rectangle, without allocating.
+     *
+     * @param left    The left edge of the rectangle.
+     * @param top     The top edge of the rectangle.
+     * @param right   The right edge of the rectangle.
+     * @param bottom  The bottom edge of the rectangle.
+     * @param contact Receives the contact normal and penetration depth on collision.
+     * @return True if the ball overlaps the rectangle, false otherwise.
+     */
+    public boolean collides(float left, float top, float right, float bottom, Contact contact) {
+        return Collision.circleIntersectsRect(x, y, radius, left, top, right, bottom, contact);
+    }
+
+    /**
+     * Bounces the ball off an obstacle: moves it out of the obstacle along the contact normal and
+     * reflects its velocity if it is moving into the obstacle.
+     *
+     * @param contact The contact with the obstacle.
+     * @return True if the velocity was reflected, false if the ball was already moving away.
+     */
+    public boolean bounce(Contact contact) {
+        float normalX = contact.getNormalX();
+        float normalY = contact.getNormalY();
+
+        // Resolve the penetration
+        x += normalX * contact.getDepth();
+        y += normalY * contact.getDepth();
+
+        float approachSpeed = Collision.approachSpeed(xSpeed, ySpeed, normalX, normalY);
+
+        if (approachSpeed >= 0) {
+            return false;
+        }
+
+        // Reflect the velocity about the contact normal
+        xSpeed = Collision.reflect(xSpeed, approachSpeed, normalX);
+        ySpeed = Collision.reflect(ySpeed, approachSpeed, normalY);
+        return true;
+    }
+
+    /**
+     * Bounces the ball off the platform. Hits on the top face send the ball upwards with a
+     * horizontal speed depending on the hit point, hits on the sides bounce it like a brick.
+     *
+     * @param platform The platform object to bounce off.
+     * @param contact  The contact with the platform.
+     */
+    public void bounceOffPlatform(Platform platform, Contact contact) {
+        if (contact.getNormalY() >= 0) {
+            bounce(contact); // Side or bottom hit
+            return;
+        }
+
+        // Resolve the penetration
+        x += contact.getNormalX() * contact.getDepth();
+        y += contact.getNormalY() * contact.getDepth();
+
+        xSpeed = steerOffPlatform(x, platform.getCenterX()); // Adjust horizontal speed based on collision point
+        ySpeed = -Math.abs(ySpeed); // Send the ball upwards
+    }
+
+    /**
+     * Gets the horizontal speed of a ball leaving the top face of the platform, which grows with
+     * the distance of the hit point from the platform center.
+     *
+     * @param x               The X-coordinate of the ball's center.
+     * @param platformCenterX The X-coordinate of the platform's center.
+     * @return The horizontal speed, in world units per second.
+     */
+    private static float steerOffPlatform(float x, float platformCenterX) {
+        return (x - platformCenterX) * PLATFORM_STEERING;
+    }
+
+    /**
+     * Sets the position and velocity of the ball, e.g. after a sweep, keeping the previous
+     * position for interpolated rendering.
+     *
+     * @param x      The x-coordinate of the ball's center.
+     * @param y      The y-coordinate of the ball's center.
+     * @param xSpeed The horizontal speed of the ball, in world units per second.
+     * @param ySpeed The vertical speed of the ball, in world units per second.
+     */
+    public void set(float x, float y, float xSpeed, float ySpeed) {
+        this.x = x;
+        this.y = y;
+        this.xSpeed = xSpeed;
+        this.ySpeed = ySpeed;
+    }
+
+    /**
+     * Checks if the ball's bounds intersect the given rectangle, without allocating.
+     *
+     * @param left   The left edge of the rectangle.
+     * @param top    The top edge of the rectangle.
+     * @param right  The right edge of the rectangle.
+     * @param bottom The bottom edge of the rectangle.
+     * @return True if the bounds intersect, false otherwise.
+     */
+    public boolean intersects(float left, float top, float right, float bottom) {
+        return Collision.intersects(x - radius, y - radius, x + radius, y + radius, left, top, right, bottom);
+    }
+
+    /**
+     * Gets the X-coordinate of the ball's center.
+     *
+     * @return The X-coordinate of the ball's center.
+     */
+    public float getX() {
+        return x;
+    }
+
+    /**
+     * Gets the Y-coordinate of the ball's center.
+     *
+     * @return The Y-coordinate of the ball's center.
+     */
+    public float getY() {
+        return y;
+    }
+
+    /**
+     * Gets the horizontal speed of the ball.
+     *
+     * @return The horizontal speed, in world units per second.
+     */
+    public float getXSpeed() {
+        return xSpeed;
+    }
+
+    /**
+     * Gets the vertical speed of the ball.
+     *
+     * @return The vertical speed, in world units per second.
+     */
+    public float getYSpeed() {
+        return ySpeed;
+    }
+
+    /**
+     * Gets the radius of the ball.
+     *
+     * @return The radius of the ball.
+     */
+    public float getRadius() {
+        return radius;
+    }
+
+    /**
+     * Gets the left edge of the ball's bounds.
+     *
+     * @return The left edge of the ball's bounds.
+     */
+    public float getLeft() {
+        return x - radius;
+    }
+
+    /**
+     * Gets the top edge of the ball's bounds.
+     *
+     * @return The top edge of the ball's bounds.
+     */
+    public float getTop() {
+        return y - radius;
+    }
+
+    /**
+     * Gets the right edge of the ball's bounds.
+     *
+     * @return The right edge of the ball's bounds.
+     */
+    public float getRight() {
+        return x + radius;
+    }
+
+    /**
+     * Gets the bottom edge of the ball's bounds.
+     *
+     * @return The bottom edge of the ball's bounds.
+     */
+    public float getBottom() {
+        return y + radius;
+    }
+
+    /**
+     * Gets the X-coordinate to render the ball at, interpolated between the previous and the
+     * current simulation step.
+     *
+     * @param interpolation Fraction of the next step that has elapsed, in the range [0, 1].
+     * @return The interpolated X-coordinate of the ball's center.
+     */
+    public float getRenderX(float interpolation) {
+        return previousX + (x - previousX) * interpolation;
+    }
+
+    /**
+     * Gets the Y-coordinate to render the ball at, interpolated between the previous and the
+     * current simulation step.
+     *
+     * @param interpolation Fraction of the next step that has elapsed, in the range [0, 1].
+     * @return The interpolated Y-coordinate of the ball's center.
+     */
+    public float getRenderY(float interpolation) {
+        return previousY + (y - previousY) * interpolation;
+    }
+
+}
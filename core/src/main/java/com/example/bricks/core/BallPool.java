@@ -0,0 +1,216 @@
+package com.example.bricks.core;
+
+/**
+ * Fixed-capacity pool of extra balls stored as parallel primitive arrays.
+ * Structure-of-arrays counterpart of {@link Ball} for modes with many balls: positions, speeds and
+ * radii live in their own arrays, so the whole pool is integrated and collided in one pass over
+ * contiguous memory and spawning or losing balls never allocates. Removing a ball moves the last
+ * ball into its slot, so indices are only stable within a step.
+ */
+public final class BallPool {
+
+    private final float[] x; // X-coordinate of each ball's center
+    private final float[] y; // Y-coordinate of each ball's center
+    private final float[] previousX; // X-coordinate of each ball's center before the last step
+    private final float[] previousY; // Y-coordinate of each ball's center before the last step
+    private final float[] xSpeed; // Horizontal speed of each ball, in world units per second
+    private final float[] ySpeed; // Vertical speed of each ball, in world units per second
+    private final float[] radius; // Radius of each ball
+    private int count = 0; // Number of balls in the pool
+
+    /**
+     * Constructs an empty BallPool.
+     *
+     * @param capacity The maximum number of balls.
+     */
+    public BallPool(int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+        xSpeed = new float[capacity];
+        ySpeed = new float[capacity];
+        radius = new float[capacity];
+    }
+
+    /**
+     * Adds a ball to the pool.
+     *
+     * @param x      The x-coordinate of the ball's center.
+     * @param y      The y-coordinate of the ball's center.
+     * @param radius The radius of the ball.
+     * @param xSpeed The horizontal speed of the ball, in world units per second.
+     * @param ySpeed The vertical speed of the ball, in world units per second.
+     * @return The index of the new ball, or -1 if the pool is full.
+     */
+    public int add(float x, float y, float radius, float xSpeed, float ySpeed) {
+        if (count == this.x.length) {
+            return -1;
+        }
+
+        int i = count++;
+        this.x[i] = x;
+        this.y[i] = y;
+        previousX[i] = x;
+        previousY[i] = y;
+        this.radius[i] = radius;
+        this.xSpeed[i] = xSpeed;
+        this.ySpeed[i] = ySpeed;
+        return i;
+    }
+
+    /**
+     * Removes a ball by moving the last ball of the pool into its slot.
+     *
+     * @param index The index of the ball to remove.
+     */
+    public void remove(int index) {
+        int last = --count;
+
+        if (index != last) {
+            x[index] = x[last];
+            y[index] = y[last];
+            previousX[index] = previousX[last];
+            previousY[index] = previousY[last];
+            radius[index] = radius[last];
+            xSpeed[index] = xSpeed[last];
+            ySpeed[index] = ySpeed[last];
+        }
+    }
+
+    /**
+     * Removes all balls.
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     * Remembers the current positions of all balls as the previous ones for interpolated
+     * rendering. Called at the start of each simulation step.
+     */
+    public void savePositions() {
+        System.arraycopy(x, 0, previousX, 0, count);
+        System.arraycopy(y, 0, previousY, 0, count);
+    }
+
+    /**
+     * Moves a ball along its velocity without any collision handling.
+     *
+     * @param index The index of the ball.
+     * @param dt    The time to move for, in seconds.
+     */
+    void advance(int index, float dt) {
+        x[index] += xSpeed[index] * dt;
+        y[index] += ySpeed[index] * dt;
+    }
+
+    /**
+     * Sets the position and velocity of a ball, e.g. after a sweep.
+     *
+     * @param index  The index of the ball.
+     * @param x      The x-coordinate of the ball's center.
+     * @param y      The y-coordinate of the ball's center.
+     * @param xSpeed The horizontal speed of the ball, in world units per second.
+     * @param ySpeed The vertical speed of the ball, in world units per second.
+     */
+    void set(int index, float x, float y, float xSpeed, float ySpeed) {
+        this.x[index] = x;
+        this.y[index] = y;
+        this.xSpeed[index] = xSpeed;
+        this.ySpeed[index] = ySpeed;
+    }
+
+    /**
+     * Gets the number of balls in the pool.
+     *
+     * @return The number of balls.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Gets the maximum number of balls.
+     *
+     * @return The capacity of the pool.
+     */
+    public int capacity() {
+        return x.length;
+    }
+
+    /**
+     * Gets the X-coordinate of a ball's center.
+     *
+     * @param index The index of the ball.
+     * @return The X-coordinate of the ball's center.
+     */
+    public float getX(int index) {
+        return x[index];
+    }
+
+    /**
+     * Gets the Y-coordinate of a ball's center.
+     *
+     * @param index The index of the ball.
+     * @return The Y-coordinate of the ball's center.
+     */
+    public float getY(int index) {
+        return y[index];
+    }
+
+    /**
+     * Gets the horizontal speed of a ball.
+     *
+     * @param index The index of the ball.
+     * @return The horizontal speed, in world units per second.
+     */
+    public float getXSpeed(int index) {
+        return xSpeed[index];
+    }
+
+    /**
+     * Gets the vertical speed of a ball.
+     *
+     * @param index The index of the ball.
+     * @return The vertical speed, in world units per second.
+     */
+    public float getYSpeed(int index) {
+        return ySpeed[index];
+    }
+
+    /**
+     * Gets the radius of a ball.
+     *
+     * @param index The index of the ball.
+     * @return The radius of the ball.
+     */
+    public float getRadius(int index) {
+        return radius[index];
+    }
+
+    /**
+     * Gets the X-coordinate to render a ball at, interpolated between the previous and the
+     * current simulation step.
+     *
+     * @param index         The index of the ball.
+     * @param interpolation Fraction of the next step that has elapsed, in the range [0, 1].
+     * @return The interpolated X-coordinate of the ball's center.
+     */
+    public float getRenderX(int index, float interpolation) {
+        return previousX[index] + (x[index] - previousX[index]) * interpolation;
+    }
+
+    /**
+     * Gets the Y-coordinate to render a ball at, interpolated between the previous and the
+     * current simulation step.
+     *
+     * @param index         The index of the ball.
+     * @param interpolation Fraction of the next step that has elapsed, in the range [0, 1].
+     * @return The interpolated Y-coordinate of the ball's center.
+     */
+    public float getRenderY(int index, float interpolation) {
+        return previousY[index] + (y[index] - previousY[index]) * interpolation;
+    }
+
+}
@@ -0,0 +1,232 @@
+package com.example.bricks.core;
+
+/**
+ * Sweeps a ball through a step in continuous collision mode without writing to the ball.
+ * The ball is moved along its velocity against the walls, the platform and the bricks; the
+ * earliest impact is resolved and the rest of the movement continues with the new velocity, so
+ * fast balls cannot pass through thin objects between steps. The resulting position and velocity,
+ * the impacts and the bricks hit are kept in the sweeper for the caller to apply. Without removing
+ * the bricks it hits, a sweep only reads the world, so sweeps of different balls can run on
+ * several threads at once, each with its own sweeper.
+ */
+final class BallSweeper {
+
+    private final Contact contact = new Contact(); // Earliest impact of the current movement
+    private final Contact sweepContact = new Contact(); // Impact of one obstacle
+    private final Contact candidate = new Contact(); // Scratch contact of the brick store
+    private final GameEventType[] impacts; // Obstacles hit, in order
+    private int impactCount; // Number of impacts
+    private final int[] hits; // Cells of the bricks hit, in order
+    private int hitCount; // Number of bricks hit
+    private boolean conflicting; // Whether a brick was hit twice because it was not removed
+    private final Ball ball = new Ball(0, 0, 0, 0, 0); // Ball being swept, moved and bounced like the main ball
+
+    /**
+     * Constructs a BallSweeper.
+     *
+     * @param maxSteps The maximum number of impacts resolved per sweep.
+     */
+    BallSweeper(int maxSteps) {
+        impacts = new GameEventType[maxSteps];
+        hits = new int[maxSteps];
+    }
+
+    /**
+     * Sweeps a ball of the pool through a step.
+     *
+     * @param balls      The pool holding the ball, not modified.
+     * @param index      The index of the ball in the pool.
+     * @param dt         The time to simulate, in seconds.
+     * @param width      The width of the world.
+     * @param platform   The platform.
+     * @param bricks     The bricks of the level.
+     * @param removeHits True to remove each brick as it is hit, false to only read the bricks and
+     *                   leave the removal to the caller.
+     */
+    void sweep(BallPool balls, int index, float dt, float width, Platform platform, BrickStore bricks, boolean removeHits) {
+        sweep(balls.getX(index), balls.getY(index), balls.getXSpeed(index), balls.getYSpeed(index), balls.getRadius(index),
+                dt, width, platform, bricks, removeHits);
+    }
+
+    /**
+     * Sweeps a ball through a step.
+     *
+     * @param startX      The X-coordinate of the ball's center.
+     * @param startY      The Y-coordinate of the ball's center.
+     * @param startXSpeed The horizontal speed of the ball, in world units per second.
+     * @param startYSpeed The vertical speed of the ball, in world units per second.
+     * @param radius      The radius of the ball.
+     * @param dt          The time to simulate, in seconds.
+     * @param width       The width of the world.
+     * @param platform    The platform.
+     * @param bricks      The bricks of the level.
+     * @param removeHits  True to remove each brick as it is hit, false to only read the bricks and
+     *                    leave the removal to the caller.
+     */
+    void sweep(float startX, float startY, float startXSpeed, float startYSpeed, float radius,
+               float dt, float width, Platform platform, BrickStore bricks, boolean removeHits) {
+        ball.reset(startX, startY, radius, startXSpeed, startYSpeed);
+        float remaining = dt; // Time still to be moved
+        impactCount = 0;
+        hitCount = 0;
+        conflicting = false;
+
+        for (int step = 0; step < hits.length && remaining > 0f; step++) {
+            float x = ball.getX();
+            float y = ball.getY();
+            float dx = ball.getXSpeed() * remaining;
+            float dy = ball.getYSpeed() * remaining;
+            GameEventType hit = null;
+            int hitIndex = -1;
+
+            // Keep the earliest impact in contact
+            if (Collision.sweepCircleWalls(x, y, radius, dx, dy, 0, 0, width, Float.POSITIVE_INFINITY, sweepContact)) {
+                contact.set(sweepContact);
+                hit = GameEventType.BORDER_HIT;
+            }
+
+            if (Collision.sweepCircleRect(x, y, radius, dx, dy, platform.getLeft(), platform.getTop(), platform.getRight(), platform.getBottom(), sweepContact)
+                    && (hit == null || sweepContact.getTime() < contact.getTime())) {
+                contact.set(sweepContact);
+                hit = GameEventType.PLATFORM_HIT;
+            }
+
+            int brickIndex = bricks.sweep(x, y, radius, dx, dy, sweepContact, candidate);
+
+            if (brickIndex >= 0 && (hit == null || sweepContact.getTime() < contact.getTime())) {
+                contact.set(sweepContact);
+                hit = GameEventType.BRICK_HIT;
+                hitIndex = brickIndex;
+            }
+
+            if (hit == null) {
+                ball.advance(remaining);
+                break;
+            }
+
+            // Move to the impact and resolve it
+            float move = remaining * contact.getTime();
+            ball.advance(move);
+            remaining -= move;
+            impacts[impactCount++] = hit;
+
+            switch (hit) {
+                case BORDER_HIT:
+                    ball.bounce(contact);
+                    break;
+                case PLATFORM_HIT:
+                    ball.bounceOffPlatform(platform, contact);
+                    break;
+                case BRICK_HIT:
+                    ball.bounce(contact);
+                    recordHit(hitIndex);
+
+                    if (removeHits) {
+                        bricks.remove(hitIndex);
+                    }
+
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Records a brick hit, noting a conflict if the same brick was hit before.
+     *
+     * @param brickIndex The cell of the brick.
+     */
+    private void recordHit(int brickIndex) {
+        for (int i = 0; i < hitCount; i++) {
+            if (hits[i] == brickIndex) {
+                conflicting = true;
+            }
+        }
+
+        hits[hitCount++] = brickIndex;
+    }
+
+    /**
+     * Gets the number of impacts of the last sweep.
+     *
+     * @return The number of impacts.
+     */
+    int getImpactCount() {
+        return impactCount;
+    }
+
+    /**
+     * Gets an impact of the last sweep.
+     *
+     * @param i The number of the impact, in order.
+     * @return The type of obstacle hit.
+     */
+    GameEventType getImpact(int i) {
+        return impacts[i];
+    }
+
+    /**
+     * Gets the number of bricks hit in the last sweep.
+     *
+     * @return The number of bricks hit.
+     */
+    int getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets a brick hit in the last sweep.
+     *
+     * @param i The number of the hit, in order.
+     * @return The cell of the brick.
+     */
+    int getHit(int i) {
+        return hits[i];
+    }
+
+    /**
+     * Checks if the last sweep, which did not remove bricks, hit a brick twice. The ball would
+     * have missed the brick the second time had it been removed.
+     *
+     * @return True if a brick was hit twice, false otherwise.
+     */
+    boolean isConflicting() {
+        return conflicting;
+    }
+
+    /**
+     * Gets the X-coordinate of the ball's center after the last sweep.
+     *
+     * @return The X-coordinate.
+     */
+    float getX() {
+        return ball.getX();
+    }
+
+    /**
+     * Gets the Y-coordinate of the ball's center after the last sweep.
+     *
+     * @return The Y-coordinate.
+     */
+    float getY() {
+        return ball.getY();
+    }
+
+    /**
+     * Gets the horizontal speed of the ball after the last sweep.
+     *
+     * @return The horizontal speed, in world units per second.
+     */
+    float getXSpeed() {
+        return ball.getXSpeed();
+    }
+
+    /**
+     * Gets the vertical speed of the ball after the last sweep.
+     *
+     * @return The vertical speed, in world units per second.
+     */
+    float getYSpeed() {
+        return ball.getYSpeed();
+    }
+
+}
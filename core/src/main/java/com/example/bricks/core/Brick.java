@@ -0,0 +1,86 @@
+package com.example.bricks.core;
+
+/**
+ * Represents a brick in the game.
+ * Bricks are obstacles that the ball can collide with and destroy.
+ */
+public class Brick {
+
+    private final float left; // X-coordinate of the brick's left edge
+    private final float top; // Y-coordinate of the brick's top edge
+    private final float right; // X-coordinate of the brick's right edge
+    private final float bottom; // Y-coordinate of the brick's bottom edge
+    private final int paletteIndex; // Index of the brick color in the BrickPalette
+
+    /**
+     * Constructs a new Brick object.
+     *
+     * @param x         The x-coordinate of the brick's top-left corner.
+     * @param y         The y-coordinate of the brick's top-left corner.
+     * @param width     The width of the brick.
+     * @param height    The height of the brick.
+     * @param colorCode The color code of the brick.
+     */
+    public Brick(float x, float y, float width, float height, int colorCode) {
+        this.left = x;
+        this.top = y;
+        this.right = x + width;
+        this.bottom = y + height;
+        this.paletteIndex = BrickPalette.indexOf(colorCode);
+    }
+
+    /**
+     * Gets the left edge of the brick.
+     *
+     * @return The x-coordinate of the brick's left edge.
+     */
+    public float getLeft() {
+        return left;
+    }
+
+    /**
+     * Gets the top edge of the brick.
+     *
+     * @return The y-coordinate of the brick's top edge.
+     */
+    public float getTop() {
+        return top;
+    }
+
+    /**
+     * Gets the right edge of the brick.
+     *
+     * @return The x-coordinate of the brick's right edge.
+     */
+    public float getRight() {
+        return right;
+    }
+
+    /**
+     * Gets the bottom edge of the brick.
+     *
+     * @return The y-coordinate of the brick's bottom edge.
+     */
+    public float getBottom() {
+        return bottom;
+    }
+
+    /**
+     * Gets the palette index of the brick color.
+     *
+     * @return The index into the {@link BrickPalette}.
+     */
+    public int getPaletteIndex() {
+        return paletteIndex;
+    }
+
+    /**
+     * Gets the color of the brick.
+     *
+     * @return The ARGB color of the brick.
+     */
+    public int getColor() {
+        return BrickPalette.getColor(paletteIndex);
+    }
+
+}
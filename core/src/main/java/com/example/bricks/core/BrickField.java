@@ -0,0 +1,224 @@
+package com.example.bricks.core;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid of bricks stored as parallel primitive arrays.
+ * Structure-of-arrays counterpart of {@link BrickGrid}: the edges and palette index of the brick
+ * in each cell live in their own arrays and a bitset marks the cells holding a brick,
+ * so collision scans read contiguous memory and no brick objects exist.
+ */
+public class BrickField implements BrickStore {
+
+    private final int columns; // Number of cells in a row
+    private final int rows; // Number of rows
+    private final float cellWidth; // Width of a cell (brick width plus spacing) in world units
+    private final float cellHeight; // Height of a cell (brick height plus spacing) in world units
+    private final float[] left; // X-coordinate of the left edge of each cell's brick
+    private final float[] top; // Y-coordinate of the top edge of each cell's brick
+    private final float[] right; // X-coordinate of the right edge of each cell's brick
+    private final float[] bottom; // Y-coordinate of the bottom edge of each cell's brick
+    private final byte[] paletteIndex; // Palette index of each cell's brick
+    private final long[] alive; // Bitset of the cells holding a brick
+    private int generation = 0; // Number of times the store was cleared
+    private int count = 0; // Number of bricks in the field
+    private final Contact candidate = new Contact(); // Reused contact for swept tests
+
+    /**
+     * Constructs an empty BrickField.
+     *
+     * @param columns    The number of cells in a row.
+     * @param rows       The number of rows.
+     * @param cellWidth  The width of a cell in world units.
+     * @param cellHeight The height of a cell in world units.
+     */
+    public BrickField(int columns, int rows, float cellWidth, float cellHeight) {
+        this.columns = columns;
+        this.rows = rows;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+
+        int cellCount = columns * rows;
+        left = new float[cellCount];
+        top = new float[cellCount];
+        right = new float[cellCount];
+        bottom = new float[cellCount];
+        paletteIndex = new byte[cellCount];
+        alive = new long[(cellCount + 63) >>> 6];
+    }
+
+    /**
+     * Places a brick into a cell, replacing any brick already stored there.
+     *
+     * @param col   The column of the cell.
+     * @param row   The row of the cell.
+     * @param brick The brick whose geometry and color are copied.
+     */
+    public void put(int col, int row, Brick brick) {
+        int index = row * columns + col;
+
+        if (!contains(index)) {
+            alive[index >>> 6] |= 1L << index;
+            count++;
+        }
+
+        left[index] = brick.getLeft();
+        top[index] = brick.getTop();
+        right[index] = brick.getRight();
+        bottom[index] = brick.getBottom();
+        paletteIndex[index] = (byte) brick.getPaletteIndex();
+    }
+
+    @Override
+    public boolean contains(int index) {
+        return (alive[index >>> 6] & (1L << index)) != 0;
+    }
+
+    @Override
+    public int findColliding(float cx, float cy, float radius, Contact contact) {
+        if (count == 0) {
+            return -1;
+        }
+
+        // Brick positions are truncated to whole units, so widen the lookup by one unit
+        int colStart = Math.max(0, (int) Math.floor((cx - radius - 1f) / cellWidth));
+        int colEnd = Math.min(columns - 1, (int) Math.floor((cx + radius + 1f) / cellWidth));
+        int rowStart = Math.max(0, (int) Math.floor((cy - radius - 1f) / cellHeight));
+        int rowEnd = Math.min(rows - 1, (int) Math.floor((cy + radius + 1f) / cellHeight));
+
+        for (int row = rowStart; row <= rowEnd; row++) {
+            for (int col = colStart; col <= colEnd; col++) {
+                int index = row * columns + col;
+
+                if (contains(index) && Collision.circleIntersectsRect(cx, cy, radius, left[index], top[index], right[index], bottom[index], contact)) {
+                    return index;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int sweep(float cx, float cy, float radius, float dx, float dy, Contact contact) {
+        return sweep(cx, cy, radius, dx, dy, contact, candidate);
+    }
+
+    @Override
+    public int sweep(float cx, float cy, float radius, float dx, float dy, Contact contact, Contact candidate) {
+        if (count == 0) {
+            return -1;
+        }
+
+        // Brick positions are truncated to whole units, so widen the lookup by one unit
+        int colStart = Math.max(0, (int) Math.floor((Math.min(cx, cx + dx) - radius - 1f) / cellWidth));
+        int colEnd = Math.min(columns - 1, (int) Math.floor((Math.max(cx, cx + dx) + radius + 1f) / cellWidth));
+        int rowStart = Math.max(0, (int) Math.floor((Math.min(cy, cy + dy) - radius - 1f) / cellHeight));
+        int rowEnd = Math.min(rows - 1, (int) Math.floor((Math.max(cy, cy + dy) + radius + 1f) / cellHeight));
+        int hitIndex = -1;
+
+        for (int row = rowStart; row <= rowEnd; row++) {
+            for (int col = colStart; col <= colEnd; col++) {
+                int index = row * columns + col;
+
+                if (contains(index)
+                        && Collision.sweepCircleRect(cx, cy, radius, dx, dy, left[index], top[index], right[index], bottom[index], candidate)
+                        && (hitIndex < 0 || candidate.getTime() < contact.getTime())) {
+                    contact.set(candidate);
+                    hitIndex = index;
+                }
+            }
+        }
+
+        return hitIndex;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(alive, 0L);
+        count = 0;
+        generation++;
+    }
+
+    @Override
+    public boolean hasGrid(int columns, int rows, float cellWidth, float cellHeight) {
+        return this.columns == columns && this.rows == rows && this.cellWidth == cellWidth && this.cellHeight == cellHeight;
+    }
+
+    @Override
+    public int getGeneration() {
+        return generation;
+    }
+
+    @Override
+    public void remove(int index) {
+        if (contains(index)) {
+            alive[index >>> 6] &= ~(1L << index);
+            count--;
+        }
+    }
+
+    @Override
+    public int nextBrick(int fromIndex) {
+        int word = fromIndex >>> 6;
+
+        if (word >= alive.length) {
+            return -1;
+        }
+
+        long bits = alive[word] & (-1L << fromIndex); // Ignore the cells before fromIndex
+
+        while (true) {
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+
+            if (++word == alive.length) {
+                return -1;
+            }
+
+            bits = alive[word];
+        }
+    }
+
+    @Override
+    public float getLeft(int index) {
+        return left[index];
+    }
+
+    @Override
+    public float getTop(int index) {
+        return top[index];
+    }
+
+    @Override
+    public float getRight(int index) {
+        return right[index];
+    }
+
+    @Override
+    public float getBottom(int index) {
+        return bottom[index];
+    }
+
+    @Override
+    public int getPaletteIndex(int index) {
+        return paletteIndex[index];
+    }
+
+    @Override
+    public int getCellCount() {
+        return left.length;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+}
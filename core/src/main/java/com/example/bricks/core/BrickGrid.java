@@ -0,0 +1,256 @@
+package com.example.bricks.core;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid of bricks matching the layout of a level map.
+ * Every cell holds at most one brick, so collision queries only visit the cells overlapped by the
+ * queried bounds and removing a brick is a constant time operation.
+ */
+public class BrickGrid implements BrickStore {
+
+    private final int columns; // Number of cells in a row
+    private final int rows; // Number of rows
+    private final float cellWidth; // Width of a cell (brick width plus spacing) in world units
+    private final float cellHeight; // Height of a cell (brick height plus spacing) in world units
+    private final Brick[] cells; // Bricks stored row by row, null for empty cells
+    private int generation = 0; // Number of times the store was cleared
+    private int count = 0; // Number of bricks in the grid
+    private final Contact candidate = new Contact(); // Reused contact for swept tests
+
+    /**
+     * Constructs an empty BrickGrid.
+     *
+     * @param columns    The number of cells in a row.
+     * @param rows       The number of rows.
+     * @param cellWidth  The width of a cell in world units.
+     * @param cellHeight The height of a cell in world units.
+     */
+    public BrickGrid(int columns, int rows, float cellWidth, float cellHeight) {
+        this.columns = columns;
+        this.rows = rows;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.cells = new Brick[columns * rows];
+    }
+
+    /**
+     * Places a brick into a cell, replacing any brick already stored there.
+     *
+     * @param col   The column of the cell.
+     * @param row   The row of the cell.
+     * @param brick The brick to store.
+     */
+    public void put(int col, int row, Brick brick) {
+        int index = row * columns + col;
+
+        if (cells[index] == null) {
+            count++;
+        }
+
+        cells[index] = brick;
+    }
+
+    /**
+     * Finds the first brick, in row-major order, that collides with a circle.
+     * Only the cells overlapped by the circle's bounds are tested.
+     *
+     * @param cx      The X-coordinate of the circle center, e.g. of the ball.
+     * @param cy      The Y-coordinate of the circle center.
+     * @param radius  The radius of the circle.
+     * @param contact Receives the contact with the brick that was found.
+     * @return The index of the cell holding the colliding brick, or -1 if there is none.
+     */
+    @Override
+    public int findColliding(float cx, float cy, float radius, Contact contact) {
+        if (count == 0) {
+            return -1;
+        }
+
+        // Brick positions are truncated to whole units, so widen the lookup by one unit
+        int colStart = Math.max(0, (int) Math.floor((cx - radius - 1f) / cellWidth));
+        int colEnd = Math.min(columns - 1, (int) Math.floor((cx + radius + 1f) / cellWidth));
+        int rowStart = Math.max(0, (int) Math.floor((cy - radius - 1f) / cellHeight));
+        int rowEnd = Math.min(rows - 1, (int) Math.floor((cy + radius + 1f) / cellHeight));
+
+        for (int row = rowStart; row <= rowEnd; row++) {
+            for (int col = colStart; col <= colEnd; col++) {
+                int index = row * columns + col;
+                Brick brick = cells[index];
+
+                if (brick == null) {
+                    continue;
+                }
+
+                if (Collision.circleIntersectsRect(cx, cy, radius, brick.getLeft(), brick.getTop(), brick.getRight(), brick.getBottom(), contact)) {
+                    return index;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Sweeps a circle along a movement vector and finds the brick it hits first.
+     * Only the cells overlapped by the bounds of the whole movement are tested; on equal times
+     * of impact the first brick in row-major order wins.
+     *
+     * @param cx      The X-coordinate of the circle center at the start of the movement.
+     * @param cy      The Y-coordinate of the circle center at the start of the movement.
+     * @param radius  The radius of the circle.
+     * @param dx      The X component of the movement.
+     * @param dy      The Y component of the movement.
+     * @param contact Receives the contact with the brick that was hit first.
+     * @return The index of the cell holding the brick hit first, or -1 if there is none.
+     */
+    @Override
+    public int sweep(float cx, float cy, float radius, float dx, float dy, Contact contact) {
+        return sweep(cx, cy, radius, dx, dy, contact, candidate);
+    }
+
+    @Override
+    public int sweep(float cx, float cy, float radius, float dx, float dy, Contact contact, Contact candidate) {
+        if (count == 0) {
+            return -1;
+        }
+
+        // Brick positions are truncated to whole units, so widen the lookup by one unit
+        int colStart = Math.max(0, (int) Math.floor((Math.min(cx, cx + dx) - radius - 1f) / cellWidth));
+        int colEnd = Math.min(columns - 1, (int) Math.floor((Math.max(cx, cx + dx) + radius + 1f) / cellWidth));
+        int rowStart = Math.max(0, (int) Math.floor((Math.min(cy, cy + dy) - radius - 1f) / cellHeight));
+        int rowEnd = Math.min(rows - 1, (int) Math.floor((Math.max(cy, cy + dy) + radius + 1f) / cellHeight));
+        int hitIndex = -1;
+
+        for (int row = rowStart; row <= rowEnd; row++) {
+            for (int col = colStart; col <= colEnd; col++) {
+                int index = row * columns + col;
+                Brick brick = cells[index];
+
+                if (brick == null) {
+                    continue;
+                }
+
+                if (Collision.sweepCircleRect(cx, cy, radius, dx, dy, brick.getLeft(), brick.getTop(), brick.getRight(), brick.getBottom(), candidate)
+                        && (hitIndex < 0 || candidate.getTime() < contact.getTime())) {
+                    contact.set(candidate);
+                    hitIndex = index;
+                }
+            }
+        }
+
+        return hitIndex;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(cells, null);
+        count = 0;
+        generation++;
+    }
+
+    @Override
+    public boolean hasGrid(int columns, int rows, float cellWidth, float cellHeight) {
+        return this.columns == columns && this.rows == rows && this.cellWidth == cellWidth && this.cellHeight == cellHeight;
+    }
+
+    @Override
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Removes the brick stored in a cell.
+     *
+     * @param index The index of the cell, as returned by {@link #findColliding(float, float, float, Contact)}.
+     */
+    @Override
+    public void remove(int index) {
+        if (cells[index] != null) {
+            cells[index] = null;
+            count--;
+        }
+    }
+
+    @Override
+    public boolean contains(int index) {
+        return cells[index] != null;
+    }
+
+    /**
+     * Gets the brick stored in a cell.
+     *
+     * @param index The index of the cell, in row-major order.
+     * @return The brick, or null if the cell is empty.
+     */
+    public Brick get(int index) {
+        return cells[index];
+    }
+
+    @Override
+    public int nextBrick(int fromIndex) {
+        for (int index = fromIndex; index < cells.length; index++) {
+            if (cells[index] != null) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public float getLeft(int index) {
+        return cells[index].getLeft();
+    }
+
+    @Override
+    public float getTop(int index) {
+        return cells[index].getTop();
+    }
+
+    @Override
+    public float getRight(int index) {
+        return cells[index].getRight();
+    }
+
+    @Override
+    public float getBottom(int index) {
+        return cells[index].getBottom();
+    }
+
+    @Override
+    public int getPaletteIndex(int index) {
+        return cells[index].getPaletteIndex();
+    }
+
+    /**
+     * Gets the number of cells in the grid.
+     *
+     * @return The number of cells, the upper bound for cell indices.
+     */
+    @Override
+    public int getCellCount() {
+        return cells.length;
+    }
+
+    /**
+     * Gets the number of bricks in the grid.
+     *
+     * @return The number of bricks.
+     */
+    @Override
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Checks if all bricks are removed.
+     *
+     * @return True if the grid holds no bricks, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.example.bricks.core;
+
+/**
+ * Palette of brick colors.
+ * Bricks store an index into the palette instead of their own color, so a renderer needs one
+ * paint per palette entry regardless of the number of bricks.
+ */
+public final class BrickPalette {
+
+    private static final int[] COLORS = {
+            0xFF708090, // Slate gray
+            0xFFB8860B, // Dark goldenrod
+            0xFFCD5C5C, // Indian red
+            0xFF228B22, // Forest green
+            0xFF5F9EA0, // Cadet blue
+            0xFFF4A460, // Sandy brown
+            0xFFFF8C00, // Dark orange
+    };
+    public static final int SIZE = COLORS.length; // Number of palette entries
+    private static final int DEFAULT_INDEX = 0; // Entry used for unknown color codes, slate gray
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private BrickPalette() {
+    }
+
+    /**
+     * Gets the palette index of a color code from a level map.
+     *
+     * @param colorCode The color code.
+     * @return The palette index, the default entry for unknown color codes.
+     */
+    public static int indexOf(int colorCode) {
+        return colorCode >= 0 && colorCode < SIZE ? colorCode : DEFAULT_INDEX;
+    }
+
+    /**
+     * Gets the color of a palette entry.
+     *
+     * @param index The palette index.
+     * @return The ARGB color.
+     */
+    public static int getColor(int index) {
+        return COLORS[index];
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.example.bricks.core;
+
+/**
+ * Representation of the bricks of a level.
+ */
+public enum BrickStorage {
+    OBJECTS, // A grid of Brick objects, see BrickGrid
+    ARRAYS // Parallel primitive arrays, see BrickField
+}
@@ -0,0 +1,161 @@
+package com.example.bricks.core;
+
+/**
+ * Storage of the bricks of a level, laid out as a uniform grid matching the level map.
+ * Bricks are addressed by the row-major index of their cell. Queries, iteration and removal do
+ * not allocate.
+ */
+public interface BrickStore {
+
+    /**
+     * Finds the first brick, in row-major order, that collides with a circle.
+     *
+     * @param cx      The X-coordinate of the circle center, e.g. of the ball.
+     * @param cy      The Y-coordinate of the circle center.
+     * @param radius  The radius of the circle.
+     * @param contact Receives the contact with the brick that was found.
+     * @return The index of the cell holding the colliding brick, or -1 if there is none.
+     */
+    int findColliding(float cx, float cy, float radius, Contact contact);
+
+    /**
+     * Sweeps a circle along a movement vector and finds the brick it hits first. On equal times
+     * of impact the first brick in row-major order wins.
+     *
+     * @param cx      The X-coordinate of the circle center at the start of the movement.
+     * @param cy      The Y-coordinate of the circle center at the start of the movement.
+     * @param radius  The radius of the circle.
+     * @param dx      The X component of the movement.
+     * @param dy      The Y component of the movement.
+     * @param contact Receives the contact with the brick that was hit first.
+     * @return The index of the cell holding the brick hit first, or -1 if there is none.
+     */
+    int sweep(float cx, float cy, float radius, float dx, float dy, Contact contact);
+
+    /**
+     * Sweeps a circle like {@link #sweep(float, float, float, float, float, Contact)} with a
+     * caller-owned scratch contact. Sweeps on several threads are safe this way, as long as no
+     * brick is removed meanwhile.
+     *
+     * @param cx        The X-coordinate of the circle center at the start of the movement.
+     * @param cy        The Y-coordinate of the circle center at the start of the movement.
+     * @param radius    The radius of the circle.
+     * @param dx        The X component of the movement.
+     * @param dy        The Y component of the movement.
+     * @param contact   Receives the contact with the brick that was hit first.
+     * @param candidate Scratch contact for the impacts tested along the way.
+     * @return The index of the cell holding the brick hit first, or -1 if there is none.
+     */
+    int sweep(float cx, float cy, float radius, float dx, float dy, Contact contact, Contact candidate);
+
+    /**
+     * Removes all bricks, so the store can be filled again for another level or attempt.
+     */
+    void clear();
+
+    /**
+     * Checks if the store is laid out on the given grid, so a level with this grid can be filled
+     * into it.
+     *
+     * @param columns    The number of cells in a row.
+     * @param rows       The number of rows.
+     * @param cellWidth  The width of a cell in world units.
+     * @param cellHeight The height of a cell in world units.
+     * @return True if the grids match, false otherwise.
+     */
+    boolean hasGrid(int columns, int rows, float cellWidth, float cellHeight);
+
+    /**
+     * Gets the number of times the store was cleared. Renderers caching the bricks compare it to
+     * notice that the store was filled again.
+     *
+     * @return The generation of the store.
+     */
+    int getGeneration();
+
+    /**
+     * Removes the brick stored in a cell.
+     *
+     * @param index The index of the cell.
+     */
+    void remove(int index);
+
+    /**
+     * Checks if a cell holds a brick.
+     *
+     * @param index The index of the cell.
+     * @return True if the cell holds a brick, false otherwise.
+     */
+    boolean contains(int index);
+
+    /**
+     * Finds the next cell holding a brick, for iterating over all bricks:
+     * {@code for (int i = store.nextBrick(0); i >= 0; i = store.nextBrick(i + 1))}.
+     *
+     * @param fromIndex The index of the first cell to check.
+     * @return The index of the first cell at or after fromIndex holding a brick, or -1 if none.
+     */
+    int nextBrick(int fromIndex);
+
+    /**
+     * Gets the left edge of the brick in a cell.
+     *
+     * @param index The index of a cell holding a brick.
+     * @return The x-coordinate of the brick's left edge.
+     */
+    float getLeft(int index);
+
+    /**
+     * Gets the top edge of the brick in a cell.
+     *
+     * @param index The index of a cell holding a brick.
+     * @return The y-coordinate of the brick's top edge.
+     */
+    float getTop(int index);
+
+    /**
+     * Gets the right edge of the brick in a cell.
+     *
+     * @param index The index of a cell holding a brick.
+     * @return The x-coordinate of the brick's right edge.
+     */
+    float getRight(int index);
+
+    /**
+     * Gets the bottom edge of the brick in a cell.
+     *
+     * @param index The index of a cell holding a brick.
+     * @return The y-coordinate of the brick's bottom edge.
+     */
+    float getBottom(int index);
+
+    /**
+     * Gets the palette index of the brick in a cell.
+     *
+     * @param index The index of a cell holding a brick.
+     * @return The index into the {@link BrickPalette}.
+     */
+    int getPaletteIndex(int index);
+
+    /**
+     * Gets the number of cells.
+     *
+     * @return The number of cells, the upper bound for cell indices.
+     */
+    int getCellCount();
+
+    /**
+     * Gets the number of bricks.
+     *
+     * @return The number of bricks.
+     */
+    int size();
+
+    /**
+     * Checks if all bricks are removed.
+     *
+     * @return True if no bricks are left, false otherwise.
+     */
+    boolean isEmpty();
+
+}
@@ -0,0 +1,336 @@
+package com.example.bricks.core;
+
+/**
+ * Collision primitives shared by the ball, platform, brick and wall checks.
+ * All tests are pure functions of their arguments and never allocate; contact data is written
+ * into a caller-provided {@link Contact}.
+ */
+public final class Collision {
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private Collision() {
+    }
+
+    /**
+     * Checks if two axis-aligned boxes overlap. Boxes that only touch do not overlap.
+     *
+     * @param aLeft   The left edge of the first box.
+     * @param aTop    The top edge of the first box.
+     * @param aRight  The right edge of the first box.
+     * @param aBottom The bottom edge of the first box.
+     * @param bLeft   The left edge of the second box.
+     * @param bTop    The top edge of the second box.
+     * @param bRight  The right edge of the second box.
+     * @param bBottom The bottom edge of the second box.
+     * @return True if the boxes overlap, false otherwise.
+     */
+    public static boolean intersects(float aLeft, float aTop, float aRight, float aBottom,
+                                     float bLeft, float bTop, float bRight, float bBottom) {
+        return aLeft < bRight && bLeft < aRight && aTop < bBottom && bTop < aBottom;
+    }
+
+    /**
+     * Tests a circle against an axis-aligned box.
+     * On overlap the contact normal points from the box towards the circle center. If the center
+     * lies inside the box, the normal points out of the nearest side.
+     *
+     * @param cx      The X-coordinate of the circle center.
+     * @param cy      The Y-coordinate of the circle center.
+     * @param radius  The radius of the circle.
+     * @param left    The left edge of the box.
+     * @param top     The top edge of the box.
+     * @param right   The right edge of the box.
+     * @param bottom  The bottom edge of the box.
+     * @param contact Receives the contact normal and penetration depth on overlap.
+     * @return True if the circle overlaps the box, false otherwise.
+     */
+    public static boolean circleIntersectsRect(float cx, float cy, float radius,
+                                               float left, float top, float right, float bottom,
+                                               Contact contact) {
+        // Closest point of the box to the circle center
+        float closestX = Math.max(left, Math.min(cx, right));
+        float closestY = Math.max(top, Math.min(cy, bottom));
+        float dx = cx - closestX;
+        float dy = cy - closestY;
+        float distanceSquared = dx * dx + dy * dy;
+
+        if (distanceSquared >= radius * radius) {
+            return false;
+        }
+
+        if (distanceSquared > 0f) {
+            float distance = (float) Math.sqrt(distanceSquared);
+            contact.set(dx / distance, dy / distance, radius - distance);
+            return true;
+        }
+
+        // The center is inside the box, push out through the nearest side
+        float toLeft = cx - left;
+        float toRight = right - cx;
+        float toTop = cy - top;
+        float toBottom = bottom - cy;
+        float nearest = Math.min(Math.min(toLeft, toRight), Math.min(toTop, toBottom));
+
+        if (nearest == toTop) {
+            contact.set(0f, -1f, toTop + radius);
+        } else if (nearest == toBottom) {
+            contact.set(0f, 1f, toBottom + radius);
+        } else if (nearest == toLeft) {
+            contact.set(-1f, 0f, toLeft + radius);
+        } else {
+            contact.set(1f, 0f, toRight + radius);
+        }
+
+        return true;
+    }
+
+    /**
+     * Tests a circle against the inner walls of an enclosing axis-aligned box.
+     * On contact the normal points into the box. When the circle touches several walls, the
+     * deepest contact is reported.
+     *
+     * @param cx      The X-coordinate of the circle center.
+     * @param cy      The Y-coordinate of the circle center.
+     * @param radius  The radius of the circle.
+     * @param left    The left wall.
+     * @param top     The top wall.
+     * @param right   The right wall.
+     * @param bottom  The bottom wall, use Float.POSITIVE_INFINITY for an open side.
+     * @param contact Receives the contact normal and penetration depth on contact.
+     * @return True if the circle touches or crosses a wall, false otherwise.
+     */
+    public static boolean circleTouchesWalls(float cx, float cy, float radius,
+                                             float left, float top, float right, float bottom,
+                                             Contact contact) {
+        float leftDepth = radius - (cx - left);
+        float rightDepth = radius - (right - cx);
+        float topDepth = radius - (cy - top);
+        float bottomDepth = radius - (bottom - cy);
+        float deepest = Math.max(Math.max(leftDepth, rightDepth), Math.max(topDepth, bottomDepth));
+
+        if (deepest < 0f) {
+            return false;
+        }
+
+        if (deepest == leftDepth) {
+            contact.set(1f, 0f, leftDepth);
+        } else if (deepest == rightDepth) {
+            contact.set(-1f, 0f, rightDepth);
+        } else if (deepest == topDepth) {
+            contact.set(0f, 1f, topDepth);
+        } else {
+            contact.set(0f, -1f, bottomDepth);
+        }
+
+        return true;
+    }
+
+    /**
+     * Sweeps a circle along a movement vector against an axis-aligned box and finds the earliest
+     * time of impact. The swept test is a ray cast against the box grown by the radius, with
+     * rounded corners. A circle that already overlaps the box reports an impact at time 0 with
+     * the penetration of {@link #circleIntersectsRect}.
+     *
+     * @param cx      The X-coordinate of the circle center at the start of the movement.
+     * @param cy      The Y-coordinate of the circle center at the start of the movement.
+     * @param radius  The radius of the circle.
+     * @param dx      The X component of the movement.
+     * @param dy      The Y component of the movement.
+     * @param left    The left edge of the box.
+     * @param top     The top edge of the box.
+     * @param right   The right edge of the box.
+     * @param bottom  The bottom edge of the box.
+     * @param contact Receives the contact normal and time of impact on hit.
+     * @return True if the circle hits the box within the movement, false otherwise.
+     */
+    public static boolean sweepCircleRect(float cx, float cy, float radius, float dx, float dy,
+                                          float left, float top, float right, float bottom,
+                                          Contact contact) {
+        if (circleIntersectsRect(cx, cy, radius, left, top, right, bottom, contact)) {
+            return true;
+        }
+
+        // Ray cast against the box grown by the radius (slab method)
+        float tEnter = 0f;
+        float tExit = 1f;
+        float normalX = 0f;
+        float normalY = 0f;
+
+        if (dx == 0f) {
+            if (cx <= left - radius || cx >= right + radius) {
+                return false;
+            }
+        } else {
+            float tNear = ((dx > 0f ? left - radius : right + radius) - cx) / dx;
+            float tFar = ((dx > 0f ? right + radius : left - radius) - cx) / dx;
+
+            if (tNear > tEnter) {
+                tEnter = tNear;
+                normalX = dx > 0f ? -1f : 1f;
+                normalY = 0f;
+            }
+
+            tExit = Math.min(tExit, tFar);
+        }
+
+        if (dy == 0f) {
+            if (cy <= top - radius || cy >= bottom + radius) {
+                return false;
+            }
+        } else {
+            float tNear = ((dy > 0f ? top - radius : bottom + radius) - cy) / dy;
+            float tFar = ((dy > 0f ? bottom + radius : top - radius) - cy) / dy;
+
+            if (tNear > tEnter) {
+                tEnter = tNear;
+                normalX = 0f;
+                normalY = dy > 0f ? -1f : 1f;
+            }
+
+            tExit = Math.min(tExit, tFar);
+        }
+
+        if (tEnter > tExit) {
+            return false;
+        }
+
+        // A hit point beyond both extents of the box lies in a rounded corner region
+        float hitX = cx + dx * tEnter;
+        float hitY = cy + dy * tEnter;
+
+        if ((hitX < left || hitX > right) && (hitY < top || hitY > bottom)) {
+            float cornerX = hitX < left ? left : right;
+            float cornerY = hitY < top ? top : bottom;
+            return sweepCirclePoint(cx, cy, radius, dx, dy, cornerX, cornerY, contact);
+        }
+
+        if (normalX == 0f && normalY == 0f) {
+            return false; // Starts next to a face, which the overlap test has already ruled out
+        }
+
+        contact.set(normalX, normalY, 0f, tEnter);
+        return true;
+    }
+
+    /**
+     * Sweeps a circle along a movement vector against a point, e.g. the corner of a box.
+     *
+     * @param cx      The X-coordinate of the circle center at the start of the movement.
+     * @param cy      The Y-coordinate of the circle center at the start of the movement.
+     * @param radius  The radius of the circle.
+     * @param dx      The X component of the movement.
+     * @param dy      The Y component of the movement.
+     * @param px      The X-coordinate of the point.
+     * @param py      The Y-coordinate of the point.
+     * @param contact Receives the contact normal and time of impact on hit.
+     * @return True if the circle hits the point within the movement, false otherwise.
+     */
+    private static boolean sweepCirclePoint(float cx, float cy, float radius, float dx, float dy,
+                                            float px, float py, Contact contact) {
+        // Solve |c + d * t - p| = radius for the smallest t
+        float fx = cx - px;
+        float fy = cy - py;
+        float a = dx * dx + dy * dy;
+        float b = 2f * (fx * dx + fy * dy);
+        float c = fx * fx + fy * fy - radius * radius;
+        float discriminant = b * b - 4f * a * c;
+
+        if (a == 0f || discriminant < 0f) {
+            return false;
+        }
+
+        float t = (-b - (float) Math.sqrt(discriminant)) / (2f * a);
+
+        if (t < 0f || t > 1f) {
+            return false;
+        }
+
+        contact.set((fx + dx * t) / radius, (fy + dy * t) / radius, 0f, t);
+        return true;
+    }
+
+    /**
+     * Sweeps a circle along a movement vector against the inner walls of an enclosing box and
+     * finds the earliest time of impact. Only walls the circle moves towards are considered.
+     *
+     * @param cx      The X-coordinate of the circle center at the start of the movement.
+     * @param cy      The Y-coordinate of the circle center at the start of the movement.
+     * @param radius  The radius of the circle.
+     * @param dx      The X component of the movement.
+     * @param dy      The Y component of the movement.
+     * @param left    The left wall.
+     * @param top     The top wall.
+     * @param right   The right wall.
+     * @param bottom  The bottom wall, use Float.POSITIVE_INFINITY for an open side.
+     * @param contact Receives the contact normal and time of impact on hit.
+     * @return True if the circle hits a wall within the movement, false otherwise.
+     */
+    public static boolean sweepCircleWalls(float cx, float cy, float radius, float dx, float dy,
+                                           float left, float top, float right, float bottom,
+                                           Contact contact) {
+        float time = Float.POSITIVE_INFINITY;
+        float normalX = 0f;
+        float normalY = 0f;
+
+        if (dx < 0f) {
+            time = Math.max(0f, (left + radius - cx) / dx);
+            normalX = 1f;
+        } else if (dx > 0f) {
+            time = Math.max(0f, (right - radius - cx) / dx);
+            normalX = -1f;
+        }
+
+        if (dy < 0f) {
+            float t = Math.max(0f, (top + radius - cy) / dy);
+
+            if (t < time) {
+                time = t;
+                normalX = 0f;
+                normalY = 1f;
+            }
+        } else if (dy > 0f) {
+            float t = Math.max(0f, (bottom - radius - cy) / dy);
+
+            if (t < time) {
+                time = t;
+                normalX = 0f;
+                normalY = -1f;
+            }
+        }
+
+        if (time > 1f) {
+            return false;
+        }
+
+        contact.set(normalX, normalY, 0f, time);
+        return true;
+    }
+
+    /**
+     * Gets the speed at which a moving body approaches a surface.
+     *
+     * @param xSpeed  The horizontal speed of the body.
+     * @param ySpeed  The vertical speed of the body.
+     * @param normalX The X component of the surface normal.
+     * @param normalY The Y component of the surface normal.
+     * @return The velocity component along the normal, negative if the body moves into the surface.
+     */
+    public static float approachSpeed(float xSpeed, float ySpeed, float normalX, float normalY) {
+        return xSpeed * normalX + ySpeed * normalY;
+    }
+
+    /**
+     * Reflects one component of a velocity about a surface normal.
+     *
+     * @param speed         The horizontal or vertical velocity component.
+     * @param approachSpeed The approach speed, as returned by {@link #approachSpeed(float, float, float, float)}.
+     * @param normal        The component of the surface normal along the same axis.
+     * @return The reflected velocity component.
+     */
+    public static float reflect(float speed, float approachSpeed, float normal) {
+        return speed - 2 * approachSpeed * normal;
+    }
+
+}
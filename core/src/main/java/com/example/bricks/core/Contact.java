@@ -0,0 +1,87 @@
+package com.example.bricks.core;
+
+/**
+ * Mutable result of a collision test.
+ * Holds the contact normal, pointing from the obstacle towards the moving object, the
+ * penetration depth along that normal and, for swept tests, the time of impact as a fraction of
+ * the tested movement. Instances are meant to be reused between tests.
+ */
+public class Contact {
+
+    private float normalX; // X component of the unit contact normal
+    private float normalY; // Y component of the unit contact normal
+    private float depth; // Penetration depth along the normal
+    private float time; // Time of impact as a fraction of the swept movement, 0 for overlap tests
+
+    /**
+     * Sets the contact data.
+     *
+     * @param normalX The X component of the unit contact normal.
+     * @param normalY The Y component of the unit contact normal.
+     * @param depth   The penetration depth along the normal.
+     */
+    void set(float normalX, float normalY, float depth) {
+        set(normalX, normalY, depth, 0f);
+    }
+
+    /**
+     * Sets the contact data including the time of impact.
+     *
+     * @param normalX The X component of the unit contact normal.
+     * @param normalY The Y component of the unit contact normal.
+     * @param depth   The penetration depth along the normal.
+     * @param time    The time of impact as a fraction of the swept movement.
+     */
+    void set(float normalX, float normalY, float depth, float time) {
+        this.normalX = normalX;
+        this.normalY = normalY;
+        this.depth = depth;
+        this.time = time;
+    }
+
+    /**
+     * Copies the contact data from another contact.
+     *
+     * @param other The contact to copy.
+     */
+    public void set(Contact other) {
+        set(other.normalX, other.normalY, other.depth, other.time);
+    }
+
+    /**
+     * Gets the X component of the contact normal.
+     *
+     * @return The X component of the unit contact normal.
+     */
+    public float getNormalX() {
+        return normalX;
+    }
+
+    /**
+     * Gets the Y component of the contact normal.
+     *
+     * @return The Y component of the unit contact normal.
+     */
+    public float getNormalY() {
+        return normalY;
+    }
+
+    /**
+     * Gets the penetration depth.
+     *
+     * @return The penetration depth along the normal.
+     */
+    public float getDepth() {
+        return depth;
+    }
+
+    /**
+     * Gets the time of impact.
+     *
+     * @return The time of impact as a fraction of the swept movement, 0 for overlap tests.
+     */
+    public float getTime() {
+        return time;
+    }
+
+}
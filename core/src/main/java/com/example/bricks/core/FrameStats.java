@@ -0,0 +1,142 @@
+package com.example.bricks.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Instrumentation of the game loop.
+ * Records simulation tick times and frame draw times into lock-free ring buffers, counts dropped
+ * frames and tracks the garbage collections since it was created. Ticks and frames may each be
+ * recorded from their own thread while any thread reads the statistics.
+ */
+public final class FrameStats {
+
+    public static final int CAPACITY = 256; // Number of most recent ticks and frames kept
+    private static final long MAX_FRAME_GAP_NANOS = 1_000_000_000L; // Longer gaps mean rendering was suspended, not dropped
+
+    private final long frameIntervalNanos; // Target interval between frames
+    private final SampleRing tickTimes = new SampleRing(CAPACITY); // Duration of each simulation tick in nanoseconds
+    private final SampleRing drawTimes = new SampleRing(CAPACITY); // Duration of each frame draw in nanoseconds
+    private final AtomicLong droppedFrames = new AtomicLong(); // Frames missed since creation
+    private long lastFrameStart = -1; // Start of the previous frame, -1 if none (frame thread only)
+    private volatile long gcBaseline = -1; // Collector count when it was first reported, -1 if never
+    private volatile long gcCount; // Collections since the collector count was first reported
+
+    /**
+     * Constructs the statistics for a loop rendering at the given rate.
+     *
+     * @param frameIntervalNanos The target interval between frames in nanoseconds.
+     */
+    public FrameStats(long frameIntervalNanos) {
+        this.frameIntervalNanos = frameIntervalNanos;
+    }
+
+    /**
+     * Records the duration of a simulation tick. Must only be called from one thread.
+     *
+     * @param durationNanos The duration of the tick in nanoseconds.
+     */
+    public void recordTick(long durationNanos) {
+        tickTimes.add(durationNanos);
+    }
+
+    /**
+     * Records a drawn frame and counts the frames missed since the previous one.
+     * Must only be called from one thread.
+     *
+     * @param startNanos    The time the frame started, from System.nanoTime().
+     * @param durationNanos The duration of the draw in nanoseconds.
+     */
+    public void recordFrame(long startNanos, long durationNanos) {
+        drawTimes.add(durationNanos);
+
+        if (lastFrameStart >= 0) {
+            long gap = startNanos - lastFrameStart;
+
+            if (gap < MAX_FRAME_GAP_NANOS) {
+                long missed = (gap + frameIntervalNanos / 2) / frameIntervalNanos - 1;
+
+                if (missed > 0) {
+                    droppedFrames.addAndGet(missed);
+                }
+            }
+        }
+
+        lastFrameStart = startNanos;
+    }
+
+    /**
+     * Forgets the previous frame, so the pause until the next recorded frame is not counted as
+     * dropped frames. Must be called from the thread recording frames.
+     */
+    public void resetFrameClock() {
+        lastFrameStart = -1;
+    }
+
+    /**
+     * Reports the total number of garbage collections performed by the runtime.
+     *
+     * @param totalCount The runtime's collection count.
+     */
+    public void setGcTotal(long totalCount) {
+        if (gcBaseline < 0) {
+            gcBaseline = totalCount;
+        }
+
+        gcCount = totalCount - gcBaseline;
+    }
+
+    /**
+     * Computes the percentiles of the most recent tick durations.
+     *
+     * @param out The percentiles to fill in, in nanoseconds.
+     */
+    public void getTickPercentiles(Percentiles out) {
+        tickTimes.percentiles(out);
+    }
+
+    /**
+     * Computes the percentiles of the most recent frame draw durations.
+     *
+     * @param out The percentiles to fill in, in nanoseconds.
+     */
+    public void getDrawPercentiles(Percentiles out) {
+        drawTimes.percentiles(out);
+    }
+
+    /**
+     * Gets the number of ticks recorded.
+     *
+     * @return The number of ticks.
+     */
+    public long getTickCount() {
+        return tickTimes.getTotal();
+    }
+
+    /**
+     * Gets the number of frames recorded.
+     *
+     * @return The number of frames.
+     */
+    public long getFrameCount() {
+        return drawTimes.getTotal();
+    }
+
+    /**
+     * Gets the number of frames missed between recorded frames.
+     *
+     * @return The number of dropped frames.
+     */
+    public long getDroppedFrames() {
+        return droppedFrames.get();
+    }
+
+    /**
+     * Gets the number of garbage collections since the collector count was first reported.
+     *
+     * @return The number of collections.
+     */
+    public long getGcCount() {
+        return gcCount;
+    }
+
+}
@@ -1,4 +1,4 @@
-package com.example.bricks;
+package com.example.bricks.core;
 
 /**
  * Enum representing different types of game events.
@@ -9,4 +9,7 @@ public enum GameEventType {
     BRICK_HIT, // Event triggered when the ball hits a brick
     PLATFORM_HIT, // Event triggered when the ball hits the platform
     FLOOR_HIT, // Event triggered when the ball hits the floor
+    LEVEL_CLEARED, // Event triggered when all bricks of a level, except the last one, are destroyed
+    GAME_COMPLETED, // Event triggered when all bricks of the last level are destroyed
+    GAME_OVER, // Event triggered when the last attempt is lost
 }
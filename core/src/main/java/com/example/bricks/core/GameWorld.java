@@ -0,0 +1,687 @@
+package com.example.bricks.core;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Headless simulation of the Bricks game.
+ * Holds the complete game state (ball, extra balls, platform, bricks, score, attempts and level progress) and
+ * advances it with {@link #step(float)}. Input is applied through commands such as
+ * {@link #movePlatformBy(float)}, and everything that happens is reported as a
+ * {@link GameEventType} to the listener. The world does not depend on Android and is not thread
+ * safe; callers sharing it between threads must synchronize.
+ * Coordinates are world units. The game uses a world {@link #WORLD_WIDTH} units wide on every
+ * device and maps it to the screen with a {@link ViewTransform} at render time.
+ */
+public class GameWorld {
+
+    public static final float WORLD_WIDTH = 1080f; // Width of the world in world units, the same on every device
+    public static final int MAX_LEVELS = 3; // Total number of levels in the game
+    public static final float STEP_SECONDS = 0.02f; // Duration of a regular simulation step
+    private static final int MAX_ATTEMPTS = 3; // Maximum number of attempts per game
+    private static final int PLATFORM_WIDTH_BASE = 70; // Base width of the platform
+    private static final int PLATFORM_HEIGHT_BASE = 15; // Base height of the platform
+    private static final float BALL_X_SPEED = 500f; // Initial horizontal speed of the ball in world units per second
+    private static final float BALL_Y_SPEED = 500f; // Initial vertical speed of the ball in world units per second
+    private static final int MAX_SWEEP_STEPS = 4; // Maximum number of impacts resolved per step in continuous mode
+    public static final int MAX_BALLS = 512; // Maximum number of extra balls in play
+    private static final int PARALLEL_THRESHOLD = 64; // Fewest narrow phase candidates worth sweeping in parallel
+
+    private final float width; // Width of the world in world units
+    private final float height; // Height of the world in world units
+    private final LevelRepository levels; // Repository of the laid out levels
+    private int currentLevel = 1; // Current game level
+    private int attempts = MAX_ATTEMPTS; // Remaining attempts
+    private int score = 0; // Player's score (count of destroyed bricks)
+    private boolean isPlaying = false; // Indicates if the game is currently running
+    private boolean levelCleared = false; // Indicates if the current level is cleared
+    private boolean gameCompleted = false; // Indicates if the game is completed
+    private boolean gameOvered = false; // Indicates if the game is over
+    private boolean continuousCollision = true; // Sweeps the ball along its velocity instead of testing overlaps
+    private final Ball ball = new Ball(0, 0, 0, 0, 0); // Ball object, placed by resetBallAndPlatform()
+    private final BallPool balls = new BallPool(MAX_BALLS); // Extra balls, lost without costing an attempt
+    private final int[] candidates = new int[MAX_BALLS]; // Extra balls passed to the narrow phase in a step
+    private final BallSweeper sweeper = new BallSweeper(MAX_SWEEP_STEPS); // Sweeps the balls on the simulation thread
+    private ParallelBallSweep parallelSweep; // Sweeps extra balls on the collision pool, null if sequential
+    private float bricksBottom = 0; // Bottom edge of the lowest brick of the current level
+    private final Platform platform = new Platform(0, 0, 0, 0); // Platform object, placed by resetBallAndPlatform()
+    private BrickStorage brickStorage = BrickStorage.OBJECTS; // Representation of the bricks of the next loaded level
+    private BrickStore bricks; // Bricks of the current level
+    private OnGameEventListener onGameEventListener; // Listener for game events
+    private InputRecorder inputRecorder; // Records the commands applied to the world, null if not recording
+    private boolean started = false; // Whether a game was started, recording must begin before
+    private final Contact contact = new Contact(); // Reused contact for collisions
+
+    /**
+     * Constructs a new GameWorld that loads levels on the calling thread.
+     *
+     * @param width       The width of the world in world units.
+     * @param height      The height of the world in world units.
+     * @param levelSource The source of the level maps.
+     */
+    public GameWorld(float width, float height, LevelSource levelSource) {
+        this(width, height, new LevelRepository(levelSource, Runnable::run, MAX_LEVELS));
+    }
+
+    /**
+     * Constructs a new GameWorld. The level after the current one is prefetched from the
+     * repository while the current one is played.
+     *
+     * @param width  The width of the world in world units.
+     * @param height The height of the world in world units.
+     * @param levels The repository of the laid out levels.
+     */
+    public GameWorld(float width, float height, LevelRepository levels) {
+        this.width = width;
+        this.height = height;
+        this.levels = levels;
+        this.bricks = new BrickGrid(LevelLayout.BRICK_PER_ROW, 0, 1f, 1f);
+        resetBallAndPlatform();
+    }
+
+    /**
+     * Starts a new game by resetting all counters and loading the first level.
+     */
+    public void startGame() {
+        if (inputRecorder != null) {
+            inputRecorder.recordCommand(InputLog.START_GAME);
+        }
+
+        started = true;
+        currentLevel = 1;
+        attempts = MAX_ATTEMPTS;
+        score = 0;
+        resetLevel(true);
+    }
+
+    /**
+     * Starts the next level, or stops the game if the last level was played.
+     */
+    public void startNextLevel() {
+        if (inputRecorder != null) {
+            inputRecorder.recordCommand(InputLog.START_NEXT_LEVEL);
+        }
+
+        if (currentLevel < MAX_LEVELS) {
+            currentLevel++;
+            resetLevel(true);
+        } else {
+            halt();
+        }
+    }
+
+    /**
+     * Stops the game.
+     */
+    public void stopGame() {
+        if (inputRecorder != null) {
+            inputRecorder.recordCommand(InputLog.STOP_GAME);
+        }
+
+        halt();
+    }
+
+    /**
+     * Stops the game without recording a command, when the game ends by itself.
+     */
+    private void halt() {
+        isPlaying = false;
+        levelCleared = false;
+    }
+
+    /**
+     * Moves the platform horizontally. Ignored while the game is not playing.
+     *
+     * @param dx The distance to move the platform by, in world units.
+     */
+    public void movePlatformBy(float dx) {
+        if (isPlaying) {
+            if (inputRecorder != null) {
+                inputRecorder.recordMove(dx);
+            }
+
+            platform.setX(platform.getX() + dx);
+        }
+    }
+
+    /**
+     * Advances the simulation.
+     *
+     * @param dt The time to simulate, in seconds. Usually {@link #STEP_SECONDS}.
+     */
+    public void step(float dt) {
+        step(dt, 0f);
+    }
+
+    /**
+     * Advances the simulation after moving the platform. The move is applied once the platform
+     * position at the start of the step is saved, so it is rendered interpolated over the step.
+     * It is recorded as a move before the step, which a replay applies to the same state.
+     *
+     * @param dt         The time to simulate, in seconds. Usually {@link #STEP_SECONDS}.
+     * @param platformDx The distance to move the platform by, ignored if the game is not playing.
+     */
+    public void step(float dt, float platformDx) {
+        if (isPlaying) {
+            advance(dt, platformDx);
+        }
+
+        if (inputRecorder != null) {
+            inputRecorder.recordStep(dt, this); // Idle steps are recorded too, they keep the ticks aligned
+        }
+    }
+
+    /**
+     * Advances the simulation of a game that is playing.
+     *
+     * @param dt         The time to simulate, in seconds.
+     * @param platformDx The distance to move the platform by at the start of the step.
+     */
+    private void advance(float dt, float platformDx) {
+        ball.savePosition();
+        balls.savePositions();
+        platform.savePosition();
+
+        if (platformDx != 0f) {
+            movePlatformBy(platformDx);
+        }
+
+        if (continuousCollision) {
+            moveBallContinuous(dt);
+        } else {
+            moveBallDiscrete(dt);
+        }
+
+        moveBalls(dt);
+        checkLevelState();
+    }
+
+    /**
+     * Moves the ball and then resolves the overlaps with the walls, the platform and the bricks.
+     *
+     * @param dt The time to simulate, in seconds.
+     */
+    private void moveBallDiscrete(float dt) {
+        ball.advance(dt);
+
+        // Check for collisions with walls and the ceiling, the floor is open
+        if (Collision.circleTouchesWalls(ball.getX(), ball.getY(), ball.getRadius(), 0, 0, width, Float.POSITIVE_INFINITY, contact)
+                && ball.bounce(contact)) {
+            notifyEvent(GameEventType.BORDER_HIT);
+        }
+
+        if (ball.collides(platform.getLeft(), platform.getTop(), platform.getRight(), platform.getBottom(), contact)) {
+            notifyEvent(GameEventType.PLATFORM_HIT);
+            ball.bounceOffPlatform(platform, contact);
+        } else {
+            int hitIndex = bricks.findColliding(ball.getX(), ball.getY(), ball.getRadius(), contact);
+
+            if (hitIndex >= 0) {
+                notifyEvent(GameEventType.BRICK_HIT);
+                ball.bounce(contact); // Bounce off the side that was hit
+                bricks.remove(hitIndex);
+                score += 10;
+            }
+        }
+    }
+
+    /**
+     * Moves the ball in continuous collision mode.
+     * The ball is swept along its velocity against the walls, the platform and the bricks; the
+     * earliest impact is resolved and the rest of the movement continues with the new velocity,
+     * so fast balls cannot pass through thin objects between steps. The sweep is shared with the
+     * extra balls, and its impacts are scored and notified in order once the ball has moved.
+     *
+     * @param dt The time to simulate, in seconds.
+     */
+    private void moveBallContinuous(float dt) {
+        sweeper.sweep(ball.getX(), ball.getY(), ball.getXSpeed(), ball.getYSpeed(), ball.getRadius(), dt, width, platform, bricks, true);
+        ball.set(sweeper.getX(), sweeper.getY(), sweeper.getXSpeed(), sweeper.getYSpeed());
+
+        for (int i = 0; i < sweeper.getImpactCount(); i++) {
+            GameEventType impact = sweeper.getImpact(i);
+
+            if (impact == GameEventType.BRICK_HIT) {
+                score += 10;
+            }
+
+            notifyEvent(impact);
+        }
+    }
+
+    /**
+     * Moves the extra balls, always in continuous collision mode, with a batched broad phase.
+     * A first pass over the pool moves every ball whose swept bounds stay clear of the walls, the
+     * platform and the rows of bricks, and collects the others; only those are swept against the
+     * obstacles, in pool order so the simulation stays deterministic. With a collision pool set,
+     * many candidates are swept in parallel and merged with the same result. Balls that fell through the
+     * floor are removed without costing an attempt. Extra balls only report brick hits.
+     *
+     * @param dt The time to simulate, in seconds.
+     */
+    private void moveBalls(float dt) {
+        int ballCount = balls.size();
+
+        if (ballCount == 0) {
+            return;
+        }
+
+        // Broad phase: free flight moves at once, everything else becomes a candidate
+        float clearTop = bricksBottom + 1f; // Brick positions are truncated to whole units
+        float platformTop = platform.getTop();
+        float platformBottom = platform.getBottom();
+        int candidateCount = 0;
+
+        for (int i = 0; i < ballCount; i++) {
+            float x = balls.getX(i);
+            float y = balls.getY(i);
+            float radius = balls.getRadius(i);
+            float dx = balls.getXSpeed(i) * dt;
+            float dy = balls.getYSpeed(i) * dt;
+            float top = Math.min(y, y + dy) - radius;
+            float bottom = Math.max(y, y + dy) + radius;
+
+            if (Math.min(x, x + dx) - radius > 0 && Math.max(x, x + dx) + radius < width && top > clearTop
+                    && (bottom < platformTop || top > platformBottom)) {
+                balls.advance(i, dt);
+            } else {
+                candidates[candidateCount++] = i;
+            }
+        }
+
+        // Narrow phase, merged in pool order when swept in parallel
+        boolean parallel = parallelSweep != null && candidateCount >= PARALLEL_THRESHOLD;
+
+        if (parallel) {
+            parallelSweep.sweep(balls, candidates, candidateCount, dt, width, platform, bricks);
+        }
+
+        for (int c = 0; c < candidateCount; c++) {
+            int index = candidates[c];
+
+            if (parallel && parallelSweep.isValid(c, bricks)) {
+                for (int k = 0; k < parallelSweep.getHitCount(c); k++) {
+                    bricks.remove(parallelSweep.getHit(c, k));
+                }
+
+                balls.set(index, parallelSweep.getX(c), parallelSweep.getY(c), parallelSweep.getXSpeed(c), parallelSweep.getYSpeed(c));
+                scoreBrickHits(parallelSweep.getHitCount(c));
+            } else {
+                sweeper.sweep(balls, index, dt, width, platform, bricks, true);
+                balls.set(index, sweeper.getX(), sweeper.getY(), sweeper.getXSpeed(), sweeper.getYSpeed());
+                scoreBrickHits(sweeper.getHitCount());
+            }
+        }
+
+        for (int i = ballCount - 1; i >= 0; i--) {
+            if (balls.getY(i) - balls.getRadius(i) > height) {
+                balls.remove(i); // Fell through the floor
+            }
+        }
+    }
+
+    /**
+     * Scores the bricks hit by an extra ball and reports each hit.
+     *
+     * @param hitCount The number of bricks hit.
+     */
+    private void scoreBrickHits(int hitCount) {
+        for (int i = 0; i < hitCount; i++) {
+            score += 10;
+            notifyEvent(GameEventType.BRICK_HIT);
+        }
+    }
+
+    /**
+     * Checks if the ball fell through the floor or all bricks are destroyed.
+     */
+    private void checkLevelState() {
+        if (ball.getTop() > height) {
+            // Ball hits the floor
+            notifyEvent(GameEventType.FLOOR_HIT);
+
+            attempts = attempts - 1;
+
+            if (attempts == 0) {
+                gameOvered = true;
+                halt();
+                notifyEvent(GameEventType.GAME_OVER);
+            } else {
+                resetLevel(false); // Reset level without reloading level map
+            }
+        } else if (bricks.isEmpty()) {
+            // All bricks are destroyed
+            if (currentLevel == MAX_LEVELS) {
+                gameCompleted = true; // Game completed if all levels are cleared
+                halt();
+                notifyEvent(GameEventType.GAME_COMPLETED);
+            } else {
+                levelCleared = true; // Level cleared
+                isPlaying = false;
+                notifyEvent(GameEventType.LEVEL_CLEARED);
+            }
+        }
+    }
+
+    /**
+     * Resets the current level.
+     *
+     * @param reloadLevelMap If true, reloads the level map; otherwise, keeps the current map.
+     */
+    private void resetLevel(boolean reloadLevelMap) {
+        resetBallAndPlatform();
+
+        if (reloadLevelMap) {
+            bricks = levels.get(currentLevel, width).fillStore(bricks, brickStorage); // Reload level map or load next level map
+            bricksBottom = 0;
+
+            for (int i = bricks.nextBrick(0); i >= 0; i = bricks.nextBrick(i + 1)) {
+                bricksBottom = Math.max(bricksBottom, bricks.getBottom(i));
+            }
+
+            if (currentLevel < MAX_LEVELS) {
+                levels.prefetch(currentLevel + 1, width); // Lay out the next level while this one is played
+            }
+        }
+
+        // Reset flags
+        isPlaying = true;
+        levelCleared = false;
+        gameCompleted = false;
+        gameOvered = false;
+    }
+
+    /**
+     * Places the ball in the center of the world and the platform at the bottom, and removes the
+     * extra balls. Both objects are reused, so a lost life does not allocate.
+     */
+    private void resetBallAndPlatform() {
+        ball.reset(width / 2, height / 2, width / 50, BALL_X_SPEED, BALL_Y_SPEED);
+        balls.clear();
+
+        float platform_width = width * (PLATFORM_WIDTH_BASE / 400.0f);
+        float platform_height = height * (PLATFORM_HEIGHT_BASE / 600.0f);
+        platform.reset(width / 2 - platform_width / 2, height - platform_height - 80, platform_width, platform_height);
+    }
+
+    /**
+     * Reports a game event to the listener.
+     *
+     * @param eventType The type of game event that occurred.
+     */
+    private void notifyEvent(GameEventType eventType) {
+        if (onGameEventListener != null) {
+            onGameEventListener.onEvent(eventType);
+        }
+    }
+
+    /**
+     * Adds an extra ball of the same size as the main ball, e.g. for a power-up. Extra balls are
+     * removed when they fall through the floor or the level is reset.
+     *
+     * @param x      The x-coordinate of the ball's center.
+     * @param y      The y-coordinate of the ball's center.
+     * @param xSpeed The horizontal speed of the ball, in world units per second.
+     * @param ySpeed The vertical speed of the ball, in world units per second.
+     * @return True if the ball was added, false if {@link #MAX_BALLS} balls are already in play.
+     */
+    public boolean spawnBall(float x, float y, float xSpeed, float ySpeed) {
+        if (inputRecorder != null) {
+            inputRecorder.recordSpawn(x, y, xSpeed, ySpeed);
+        }
+
+        return balls.add(x, y, ball.getRadius(), xSpeed, ySpeed) >= 0;
+    }
+
+    /**
+     * Starts recording the commands applied to the world. The settings made so far are recorded
+     * first, so the recording starts from the state of a new world.
+     *
+     * @param inputRecorder The recorder, or null to stop recording.
+     * @throws IllegalStateException If a game was already started, its state is not recordable.
+     */
+    public void setInputRecorder(InputRecorder inputRecorder) {
+        if (inputRecorder != null && started) {
+            throw new IllegalStateException("Recording must start before the first game");
+        }
+
+        this.inputRecorder = inputRecorder;
+
+        if (inputRecorder != null) {
+            inputRecorder.recordBrickStorage(brickStorage);
+            inputRecorder.recordCommand(InputLog.SET_CONTINUOUS_COLLISION, continuousCollision);
+        }
+    }
+
+    /**
+     * Computes a hash of the complete simulation state: progress, score, ball, extra balls,
+     * platform and bricks. Two worlds that went through the same commands have the same hash, so
+     * replays compare it to find where they diverged. Does not allocate.
+     *
+     * @return The 64-bit FNV-1a hash of the state.
+     */
+    public long stateHash() {
+        long hash = 0xCBF29CE484222325L; // FNV offset basis
+        hash = mix(hash, currentLevel);
+        hash = mix(hash, attempts);
+        hash = mix(hash, score);
+        hash = mix(hash, (isPlaying ? 1 : 0) | (levelCleared ? 2 : 0) | (gameCompleted ? 4 : 0) | (gameOvered ? 8 : 0));
+        hash = mix(hash, Float.floatToRawIntBits(ball.getX()));
+        hash = mix(hash, Float.floatToRawIntBits(ball.getY()));
+        hash = mix(hash, Float.floatToRawIntBits(ball.getXSpeed()));
+        hash = mix(hash, Float.floatToRawIntBits(ball.getYSpeed()));
+        hash = mix(hash, Float.floatToRawIntBits(platform.getLeft()));
+        hash = mix(hash, balls.size());
+
+        for (int i = 0; i < balls.size(); i++) {
+            hash = mix(hash, Float.floatToRawIntBits(balls.getX(i)));
+            hash = mix(hash, Float.floatToRawIntBits(balls.getY(i)));
+            hash = mix(hash, Float.floatToRawIntBits(balls.getXSpeed(i)));
+            hash = mix(hash, Float.floatToRawIntBits(balls.getYSpeed(i)));
+        }
+
+        hash = mix(hash, bricks.size());
+
+        for (int i = bricks.nextBrick(0); i >= 0; i = bricks.nextBrick(i + 1)) {
+            hash = mix(hash, i);
+        }
+
+        return hash;
+    }
+
+    /**
+     * Mixes the four bytes of a value into an FNV-1a hash.
+     *
+     * @param hash  The hash so far.
+     * @param value The value to mix in.
+     * @return The new hash.
+     */
+    private static long mix(long hash, int value) {
+        for (int shift = 0; shift < 32; shift += 8) {
+            hash ^= (value >>> shift) & 0xFF;
+            hash *= 0x100000001B3L; // FNV prime
+        }
+
+        return hash;
+    }
+
+    /**
+     * Sets the game event listener.
+     *
+     * @param listener The listener to handle game events.
+     */
+    public void setOnGameEventListener(OnGameEventListener listener) {
+        this.onGameEventListener = listener;
+    }
+
+    /**
+     * Enables or disables continuous collision detection for the ball.
+     *
+     * @param continuousCollision True to sweep the ball along its velocity, false to test overlaps
+     *                            after each move.
+     */
+    public void setContinuousCollision(boolean continuousCollision) {
+        if (inputRecorder != null) {
+            inputRecorder.recordCommand(InputLog.SET_CONTINUOUS_COLLISION, continuousCollision);
+        }
+
+        this.continuousCollision = continuousCollision;
+    }
+
+    /**
+     * Sets the pool sweeping the extra balls in parallel when many of them may collide in a step.
+     * The results are identical to the sequential sweep.
+     *
+     * @param collisionPool The pool to sweep on, or null to sweep on the simulation thread only.
+     */
+    public void setCollisionPool(ForkJoinPool collisionPool) {
+        if (collisionPool == null) {
+            parallelSweep = null;
+        } else if (parallelSweep == null || parallelSweep.getPool() != collisionPool) {
+            parallelSweep = new ParallelBallSweep(collisionPool, MAX_BALLS, MAX_SWEEP_STEPS);
+        }
+    }
+
+    /**
+     * Sets the representation of the bricks. Takes effect when the next level map is loaded.
+     *
+     * @param brickStorage The representation of the bricks.
+     */
+    public void setBrickStorage(BrickStorage brickStorage) {
+        if (inputRecorder != null) {
+            inputRecorder.recordBrickStorage(brickStorage);
+        }
+
+        this.brickStorage = brickStorage;
+    }
+
+    /**
+     * Sets the playing state of the game.
+     *
+     * @param isPlaying True to start playing, false to pause.
+     */
+    public void setIsPlaying(boolean isPlaying) {
+        if (inputRecorder != null) {
+            inputRecorder.recordCommand(InputLog.SET_PLAYING, isPlaying);
+        }
+
+        this.isPlaying = isPlaying;
+    }
+
+    /**
+     * Checks if the game is currently playing.
+     *
+     * @return True if the game is playing, false otherwise.
+     */
+    public boolean isPlaying() {
+        return isPlaying;
+    }
+
+    /**
+     * Whether the current level is cleared.
+     *
+     * @return True if the level is cleared, false otherwise.
+     */
+    public boolean isLevelCleared() {
+        return levelCleared;
+    }
+
+    /**
+     * Whether the game is completed.
+     *
+     * @return True if the game is completed, false otherwise.
+     */
+    public boolean isGameCompleted() {
+        return gameCompleted;
+    }
+
+    /**
+     * Whether the game is overed.
+     *
+     * @return True if the game is overed, false otherwise.
+     */
+    public boolean isGameOvered() {
+        return gameOvered;
+    }
+
+    /**
+     * Gets the current level.
+     *
+     * @return The current level number.
+     */
+    public int getCurrentLevel() {
+        return currentLevel;
+    }
+
+    /**
+     * Gets the player's score.
+     *
+     * @return The score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the remaining attempts.
+     *
+     * @return The number of remaining attempts.
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Gets the ball.
+     *
+     * @return The ball object.
+     */
+    public Ball getBall() {
+        return ball;
+    }
+
+    /**
+     * Gets the extra balls.
+     *
+     * @return The pool of extra balls.
+     */
+    public BallPool getBalls() {
+        return balls;
+    }
+
+    /**
+     * Gets the platform.
+     *
+     * @return The platform object.
+     */
+    public Platform getPlatform() {
+        return platform;
+    }
+
+    /**
+     * Gets the bricks of the current level.
+     *
+     * @return The store of bricks.
+     */
+    public BrickStore getBricks() {
+        return bricks;
+    }
+
+    /**
+     * Gets the width of the world.
+     *
+     * @return The width in world units.
+     */
+    public float getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the world.
+     *
+     * @return The height in world units.
+     */
+    public float getHeight() {
+        return height;
+    }
+
+}
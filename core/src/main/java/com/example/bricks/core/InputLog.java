@@ -0,0 +1,36 @@
+package com.example.bricks.core;
+
+/**
+ * Binary format of recorded game input, written by {@link InputRecorder} and read by
+ * {@link InputReplayer}.
+ * Layout, big-endian: magic "BRKR", format version (short), checkpoint interval in ticks (short),
+ * world width (float), world height (float), then the commands applied to the world in order, each
+ * an opcode byte followed by its operands. Consecutive steps of the same duration are one
+ * {@link #STEPS} command with a variable-length count, so idle ticks take a few bytes per run; the
+ * tick index of a command is its timestamp. Every checkpoint interval a {@link #CHECKPOINT} holds
+ * the {@link GameWorld#stateHash()} after the tick, so a replay finds where it diverged.
+ */
+public final class InputLog {
+
+    public static final int MAGIC = 0x42524B52; // "BRKR"
+    public static final short VERSION = 1; // Current format version
+    public static final int HEADER_SIZE = 16; // Bytes before the commands
+
+    static final byte STEPS = 0; // Steps: count (varint), duration in seconds (float)
+    static final byte MOVE_PLATFORM = 1; // Platform movement: distance (float)
+    static final byte START_GAME = 2; // Game started, no operands
+    static final byte START_NEXT_LEVEL = 3; // Next level started, no operands
+    static final byte STOP_GAME = 4; // Game stopped, no operands
+    static final byte SET_PLAYING = 5; // Playing state set: playing (byte)
+    static final byte SPAWN_BALL = 6; // Extra ball spawned: x, y, speed x, speed y (floats)
+    static final byte SET_BRICK_STORAGE = 7; // Brick storage set: ordinal (byte)
+    static final byte SET_CONTINUOUS_COLLISION = 8; // Collision mode set: continuous (byte)
+    static final byte CHECKPOINT = 9; // State hash after the last step (long)
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private InputLog() {
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.example.bricks.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free queue of platform movements between the input thread and the simulation.
+ * A single producer, usually the UI thread handling touch events, offers movements; a single
+ * consumer, the simulation, drains them once per tick and applies their sum as one command, so
+ * the platform only moves at tick boundaries. Neither side blocks nor allocates. When the queue is
+ * full, e.g. while the simulation stalls, new movements are added up in an overflow cell that the
+ * next drain takes as well, so no movement is lost.
+ */
+public final class InputQueue {
+
+    private final float[] movements; // Offered movements, indexed by sequence number modulo capacity
+    private final int mask; // Capacity minus one, capacity is a power of two
+    private final AtomicLong offered = new AtomicLong(); // Number of movements published, written by the producer
+    private final AtomicLong drained = new AtomicLong(); // Number of movements consumed, written by the consumer
+    private final AtomicInteger overflow = new AtomicInteger(); // Bits of the sum of movements offered while full
+
+    /**
+     * Constructs a queue.
+     *
+     * @param capacity The number of movements held between two drains, a power of two.
+     */
+    public InputQueue(int capacity) {
+        if (capacity <= 0 || (capacity & (capacity - 1)) != 0) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+
+        movements = new float[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Offers a movement. Must only be called from the producer thread.
+     *
+     * @param dx The distance to move the platform by.
+     */
+    public void offer(float dx) {
+        long sequence = offered.get();
+
+        if (sequence - drained.get() == movements.length) {
+            addOverflow(dx);
+            return;
+        }
+
+        movements[(int) (sequence & mask)] = dx;
+        offered.lazySet(sequence + 1); // Publish the movement after it is stored
+    }
+
+    /**
+     * Takes all offered movements. Must only be called from the consumer thread, or with a lock
+     * the consumer holds while draining.
+     *
+     * @return The sum of the movements, 0 if there were none.
+     */
+    public float drain() {
+        long sequence = drained.get();
+        long end = offered.get();
+        float sum = 0f;
+
+        for (; sequence < end; sequence++) {
+            sum += movements[(int) (sequence & mask)];
+        }
+
+        drained.lazySet(end); // Release the slots after they are read
+        return sum + Float.intBitsToFloat(overflow.getAndSet(0)); // The bits of 0f are 0
+    }
+
+    /**
+     * Adds a movement to the overflow cell, racing only with a drain that empties it.
+     *
+     * @param dx The distance to move the platform by.
+     */
+    private void addOverflow(float dx) {
+        int bits;
+
+        do {
+            bits = overflow.get();
+        } while (!overflow.compareAndSet(bits, Float.floatToIntBits(Float.intBitsToFloat(bits) + dx)));
+    }
+
+}
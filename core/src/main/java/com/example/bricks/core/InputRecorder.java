@@ -0,0 +1,230 @@
+package com.example.bricks.core;
+
+import java.util.Arrays;
+
+/**
+ * Records the commands applied to a {@link GameWorld} in the {@link InputLog} format.
+ * Attached to a world before its first game starts, it captures every input (platform movements
+ * in the order they arrived, game and level control, settings) and every simulation step, so
+ * {@link InputReplayer} can re-run the game deterministically. Recording appends to a growable
+ * buffer and only allocates when the buffer grows. Not thread safe; used under the same lock as
+ * the world.
+ */
+public final class InputRecorder {
+
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 50; // Ticks between state hashes, one per simulated second
+
+    private final int checkpointInterval; // Ticks between state hashes
+    private byte[] buffer = new byte[4096]; // Encoded log
+    private int length = 0; // Bytes used in the buffer
+    private long ticks = 0; // Steps recorded so far
+    private int pendingSteps = 0; // Steps not written yet
+    private float pendingDt; // Duration of the steps not written yet
+
+    /**
+     * Constructs a recorder writing a state hash every {@link #DEFAULT_CHECKPOINT_INTERVAL} ticks.
+     *
+     * @param world The world to record, not started yet.
+     */
+    public InputRecorder(GameWorld world) {
+        this(world, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Constructs a recorder.
+     *
+     * @param world              The world to record, not started yet.
+     * @param checkpointInterval The number of ticks between state hashes, in the range [1, 32767].
+     */
+    public InputRecorder(GameWorld world, int checkpointInterval) {
+        if (checkpointInterval < 1 || checkpointInterval > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid checkpoint interval: " + checkpointInterval);
+        }
+
+        this.checkpointInterval = checkpointInterval;
+        writeInt(InputLog.MAGIC);
+        writeShort(InputLog.VERSION);
+        writeShort(checkpointInterval);
+        writeInt(Float.floatToRawIntBits(world.getWidth()));
+        writeInt(Float.floatToRawIntBits(world.getHeight()));
+    }
+
+    /**
+     * Records a simulation step and, every checkpoint interval, the state hash after it.
+     *
+     * @param dt    The duration of the step, in seconds.
+     * @param world The world after the step.
+     */
+    void recordStep(float dt, GameWorld world) {
+        if (pendingSteps > 0 && Float.floatToRawIntBits(dt) != Float.floatToRawIntBits(pendingDt)) {
+            flushSteps();
+        }
+
+        pendingDt = dt;
+        pendingSteps++;
+        ticks++;
+
+        if (ticks % checkpointInterval == 0) {
+            flushSteps();
+            writeByte(InputLog.CHECKPOINT);
+            writeLong(world.stateHash());
+        }
+    }
+
+    /**
+     * Records a platform movement.
+     *
+     * @param dx The distance the platform was moved by.
+     */
+    void recordMove(float dx) {
+        beginCommand(InputLog.MOVE_PLATFORM);
+        writeInt(Float.floatToRawIntBits(dx));
+    }
+
+    /**
+     * Records a command without operands.
+     *
+     * @param opcode The opcode of the command.
+     */
+    void recordCommand(byte opcode) {
+        beginCommand(opcode);
+    }
+
+    /**
+     * Records a command with a flag operand.
+     *
+     * @param opcode The opcode of the command.
+     * @param flag   The operand.
+     */
+    void recordCommand(byte opcode, boolean flag) {
+        beginCommand(opcode);
+        writeByte(flag ? 1 : 0);
+    }
+
+    /**
+     * Records a change of the brick storage.
+     *
+     * @param storage The new representation of the bricks.
+     */
+    void recordBrickStorage(BrickStorage storage) {
+        beginCommand(InputLog.SET_BRICK_STORAGE);
+        writeByte(storage.ordinal());
+    }
+
+    /**
+     * Records a spawned extra ball.
+     *
+     * @param x      The x-coordinate of the ball's center.
+     * @param y      The y-coordinate of the ball's center.
+     * @param xSpeed The horizontal speed of the ball.
+     * @param ySpeed The vertical speed of the ball.
+     */
+    void recordSpawn(float x, float y, float xSpeed, float ySpeed) {
+        beginCommand(InputLog.SPAWN_BALL);
+        writeInt(Float.floatToRawIntBits(x));
+        writeInt(Float.floatToRawIntBits(y));
+        writeInt(Float.floatToRawIntBits(xSpeed));
+        writeInt(Float.floatToRawIntBits(ySpeed));
+    }
+
+    /**
+     * Gets the number of steps recorded so far.
+     *
+     * @return The number of ticks.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Gets the log recorded so far.
+     *
+     * @return A copy of the encoded log.
+     */
+    public byte[] toByteArray() {
+        flushSteps();
+        return Arrays.copyOf(buffer, length);
+    }
+
+    /**
+     * Writes the pending steps and the opcode of a new command.
+     *
+     * @param opcode The opcode of the command.
+     */
+    private void beginCommand(byte opcode) {
+        flushSteps();
+        writeByte(opcode);
+    }
+
+    /**
+     * Writes the pending steps as one command.
+     */
+    private void flushSteps() {
+        if (pendingSteps == 0) {
+            return;
+        }
+
+        writeByte(InputLog.STEPS);
+        writeVarInt(pendingSteps);
+        writeInt(Float.floatToRawIntBits(pendingDt));
+        pendingSteps = 0;
+    }
+
+    /**
+     * Writes an unsigned integer in 7-bit groups, least significant first.
+     *
+     * @param value The value, not negative.
+     */
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        writeByte(value);
+    }
+
+    /**
+     * Writes a long, big-endian.
+     *
+     * @param value The value.
+     */
+    private void writeLong(long value) {
+        writeInt((int) (value >>> 32));
+        writeInt((int) value);
+    }
+
+    /**
+     * Writes an int, big-endian.
+     *
+     * @param value The value.
+     */
+    private void writeInt(int value) {
+        writeShort(value >>> 16);
+        writeShort(value);
+    }
+
+    /**
+     * Writes the low two bytes of a value, big-endian.
+     *
+     * @param value The value.
+     */
+    private void writeShort(int value) {
+        writeByte(value >>> 8);
+        writeByte(value);
+    }
+
+    /**
+     * Writes the low byte of a value, growing the buffer if needed.
+     *
+     * @param value The value.
+     */
+    private void writeByte(int value) {
+        if (length == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+
+        buffer[length++] = (byte) value;
+    }
+
+}
@@ -0,0 +1,182 @@
+package com.example.bricks.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Headless replayer of games recorded by {@link InputRecorder}.
+ * Re-runs the recorded commands on a new {@link GameWorld}, compares the state hash at every
+ * checkpoint with the recorded one and times every step, as a regression and performance test
+ * harness. Usage: InputReplayer &lt;log file&gt; &lt;level directory&gt;, where the directory holds
+ * the levelN.txt maps the game was played with.
+ */
+public final class InputReplayer {
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private InputReplayer() {
+    }
+
+    /**
+     * Replays a recorded game.
+     *
+     * @param log         The encoded log.
+     * @param levelSource The source of the level maps the game was played with.
+     * @return The report of the replay.
+     * @throws IOException If the log is not an input log of a supported version or is truncated.
+     */
+    public static ReplayReport replay(byte[] log, LevelSource levelSource) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(log).order(ByteOrder.BIG_ENDIAN);
+
+        if (buffer.remaining() < InputLog.HEADER_SIZE || buffer.getInt() != InputLog.MAGIC) {
+            throw new IOException("Not an input log");
+        }
+
+        short version = buffer.getShort();
+
+        if (version > InputLog.VERSION) {
+            throw new IOException("Unsupported input log version " + version);
+        }
+
+        buffer.getShort(); // Checkpoint interval, the checkpoints are in the log
+        GameWorld world = new GameWorld(buffer.getFloat(), buffer.getFloat(), levelSource);
+        long[] tickNanos = new long[1024]; // Time of each step
+        long ticks = 0;
+        int checkpoints = 0;
+        long firstDivergentTick = -1;
+        long totalNanos = 0;
+
+        try {
+            while (buffer.hasRemaining()) {
+                byte opcode = buffer.get();
+
+                switch (opcode) {
+                    case InputLog.STEPS:
+                        int count = readVarInt(buffer);
+                        float dt = buffer.getFloat();
+
+                        for (int i = 0; i < count; i++) {
+                            long start = System.nanoTime();
+                            world.step(dt);
+                            long nanos = System.nanoTime() - start;
+
+                            if (ticks == tickNanos.length) {
+                                tickNanos = Arrays.copyOf(tickNanos, tickNanos.length * 2);
+                            }
+
+                            tickNanos[(int) ticks++] = nanos;
+                            totalNanos += nanos;
+                        }
+
+                        break;
+                    case InputLog.MOVE_PLATFORM:
+                        world.movePlatformBy(buffer.getFloat());
+                        break;
+                    case InputLog.START_GAME:
+                        world.startGame();
+                        break;
+                    case InputLog.START_NEXT_LEVEL:
+                        world.startNextLevel();
+                        break;
+                    case InputLog.STOP_GAME:
+                        world.stopGame();
+                        break;
+                    case InputLog.SET_PLAYING:
+                        world.setIsPlaying(buffer.get() != 0);
+                        break;
+                    case InputLog.SPAWN_BALL:
+                        world.spawnBall(buffer.getFloat(), buffer.getFloat(), buffer.getFloat(), buffer.getFloat());
+                        break;
+                    case InputLog.SET_BRICK_STORAGE:
+                        world.setBrickStorage(BrickStorage.values()[buffer.get()]);
+                        break;
+                    case InputLog.SET_CONTINUOUS_COLLISION:
+                        world.setContinuousCollision(buffer.get() != 0);
+                        break;
+                    case InputLog.CHECKPOINT:
+                        checkpoints++;
+
+                        if (world.stateHash() != buffer.getLong() && firstDivergentTick < 0) {
+                            firstDivergentTick = ticks;
+                        }
+
+                        break;
+                    default:
+                        throw new IOException("Unknown command " + opcode + " at offset " + (buffer.position() - 1));
+                }
+            }
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Truncated input log", e);
+        }
+
+        Percentiles tickTimes = new Percentiles((int) ticks);
+        tickTimes.compute(tickNanos, (int) ticks);
+        return new ReplayReport(ticks, checkpoints, firstDivergentTick, world.stateHash(), totalNanos, tickTimes);
+    }
+
+    /**
+     * Reads an unsigned integer written in 7-bit groups, least significant first.
+     *
+     * @param buffer The buffer to read from.
+     * @return The value.
+     * @throws IOException If the value does not fit an int.
+     */
+    private static int readVarInt(ByteBuffer buffer) throws IOException {
+        int value = 0;
+
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+
+            if (b >= 0) {
+                return value;
+            }
+        }
+
+        throw new IOException("Malformed step count");
+    }
+
+    /**
+     * Replays a recorded game with the level maps of a directory and prints the report.
+     *
+     * @param args The log file and the level directory.
+     * @throws IOException If the log or a level map cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: InputReplayer <log file> <level directory>");
+        }
+
+        byte[] log = Files.readAllBytes(new File(args[0]).toPath());
+        File levelDir = new File(args[1]);
+        ReplayReport report = replay(log, level -> {
+            File file = new File(levelDir, "level" + level + ".txt");
+
+            try (Reader reader = new InputStreamReader(Files.newInputStream(file.toPath()), StandardCharsets.UTF_8)) {
+                return LevelParser.parse(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        Percentiles tickTimes = report.getTickTimes();
+        System.out.printf(Locale.ROOT, "ticks %d, checkpoints %d, %s%n", report.getTicks(), report.getCheckpoints(),
+                report.isDeterministic() ? "deterministic" : "diverged after tick " + report.getFirstDivergentTick());
+        System.out.printf(Locale.ROOT, "final state hash %016x%n", report.getFinalHash());
+        System.out.printf(Locale.ROOT, "tick us p50 %.1f p95 %.1f p99 %.1f max %.1f, total ms %.1f%n",
+                tickTimes.getP50() / 1e3, tickTimes.getP95() / 1e3, tickTimes.getP99() / 1e3, tickTimes.getMax() / 1e3,
+                report.getTotalNanos() / 1e6);
+    }
+
+}
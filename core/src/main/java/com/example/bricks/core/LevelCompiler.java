@@ -0,0 +1,63 @@
+package com.example.bricks.core;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Build-time tool that compiles the text level maps into the binary level format.
+ * Usage: LevelCompiler &lt;input directory&gt; &lt;output directory&gt;. Every levelN.txt of the input
+ * directory is written as levelN.bin to the output directory.
+ */
+public final class LevelCompiler {
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private LevelCompiler() {
+    }
+
+    /**
+     * Compiles the level maps of a directory.
+     *
+     * @param args The input directory and the output directory.
+     * @throws IOException If a level map cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: LevelCompiler <input directory> <output directory>");
+        }
+
+        File outputDir = new File(args[1]);
+
+        if (!outputDir.isDirectory() && !outputDir.mkdirs()) {
+            throw new IOException("Cannot create " + outputDir);
+        }
+
+        File[] levels = new File(args[0]).listFiles((dir, name) -> name.matches("level\\d+\\.txt"));
+
+        if (levels == null) {
+            throw new IOException("Cannot list " + args[0]);
+        }
+
+        for (File level : levels) {
+            LevelMap map;
+
+            try (Reader reader = new InputStreamReader(Files.newInputStream(level.toPath()), StandardCharsets.UTF_8)) {
+                map = LevelParser.parse(reader);
+            }
+
+            String name = level.getName().replace(".txt", ".bin");
+
+            try (OutputStream out = new FileOutputStream(new File(outputDir, name))) {
+                out.write(LevelFormat.encode(map));
+            }
+        }
+    }
+
+}
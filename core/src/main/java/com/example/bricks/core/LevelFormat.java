@@ -0,0 +1,83 @@
+package com.example.bricks.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Binary level format, compiled at build time from the text level maps.
+ * Layout, big-endian: magic "BRKL", format version (short), attribute bytes per cell (short),
+ * columns (int), rows (int), one color code byte per cell row by row ({@link LevelMap#EMPTY} for
+ * empty cells), then the attribute bytes of every cell row by row. No attributes are defined yet,
+ * readers skip the ones they do not know.
+ */
+public final class LevelFormat {
+
+    public static final int MAGIC = 0x42524B4C; // "BRKL"
+    public static final short VERSION = 1; // Current format version
+    public static final int HEADER_SIZE = 16; // Bytes before the cells
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private LevelFormat() {
+    }
+
+    /**
+     * Encodes a level map.
+     *
+     * @param map The level map.
+     * @return The encoded level.
+     */
+    public static byte[] encode(LevelMap map) {
+        int cellCount = map.getColumns() * map.getRows();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + cellCount).order(ByteOrder.BIG_ENDIAN);
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort((short) 0); // No attributes yet
+        buffer.putInt(map.getColumns());
+        buffer.putInt(map.getRows());
+
+        for (int row = 0; row < map.getRows(); row++) {
+            for (int col = 0; col < map.getColumns(); col++) {
+                buffer.put((byte) map.getColorCode(col, row));
+            }
+        }
+
+        return buffer.array();
+    }
+
+    /**
+     * Decodes a level map with one bulk copy of the cells, for example from a memory-mapped file.
+     *
+     * @param buffer The encoded level, read from its position.
+     * @return The level map.
+     * @throws IOException If the buffer does not hold a level of a supported version.
+     */
+    public static LevelMap decode(ByteBuffer buffer) throws IOException {
+        buffer.order(ByteOrder.BIG_ENDIAN);
+
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a binary level");
+        }
+
+        short version = buffer.getShort();
+
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported level format version " + version);
+        }
+
+        buffer.getShort(); // Attribute bytes per cell, none are used yet
+        int columns = buffer.getInt();
+        int rows = buffer.getInt();
+
+        if (columns < 0 || rows < 0 || (long) columns * rows > buffer.remaining()) {
+            throw new IOException("Truncated level of " + columns + "x" + rows + " cells");
+        }
+
+        byte[] cells = new byte[columns * rows];
+        buffer.get(cells);
+        return new LevelMap(columns, rows, cells);
+    }
+
+}
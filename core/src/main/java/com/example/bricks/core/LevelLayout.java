@@ -0,0 +1,151 @@
+package com.example.bricks.core;
+
+/**
+ * Level map laid out across the width of the world.
+ * Holds the immutable bricks of every cell, so a level can be restarted or shared between threads
+ * without laying it out again. Each game gets its own {@link BrickStore} from {@link #createStore(BrickStorage)}.
+ */
+public final class LevelLayout {
+
+    static final int BRICK_PER_ROW = 10; // Number of bricks per row
+    private static final int SPACE_BETWEEN_BRICKS = 5; // Space between bricks in world units
+    private static final int BRICK_WIDTH_BASE = 40; // Base width of a brick, defines the aspect ratio
+    private static final int BRICK_HEIGHT_BASE = 20; // Base height of a brick, defines the aspect ratio
+
+    private final int columns; // Number of grid columns
+    private final int rows; // Number of grid rows
+    private final float cellWidth; // Width of a grid cell, including the space between bricks
+    private final float cellHeight; // Height of a grid cell, including the space between bricks
+    private final Brick[] cells; // Bricks stored row by row, null for empty cells
+
+    /**
+     * Constructs a laid out level.
+     *
+     * @param columns    The number of grid columns.
+     * @param rows       The number of grid rows.
+     * @param cellWidth  The width of a grid cell.
+     * @param cellHeight The height of a grid cell.
+     * @param cells      The bricks stored row by row, null for empty cells.
+     */
+    private LevelLayout(int columns, int rows, float cellWidth, float cellHeight, Brick[] cells) {
+        this.columns = columns;
+        this.rows = rows;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.cells = cells;
+    }
+
+    /**
+     * Lays out the bricks of a level map across the width of the world.
+     *
+     * @param levelMap The level map to lay out.
+     * @param width    The width of the world in world units.
+     * @return The laid out level.
+     */
+    public static LevelLayout of(LevelMap levelMap, float width) {
+        float brick_width = (width - BRICK_PER_ROW * SPACE_BETWEEN_BRICKS) / BRICK_PER_ROW;
+        float brick_height = brick_width * ((float) BRICK_HEIGHT_BASE / (float) BRICK_WIDTH_BASE);
+
+        // Size the grid after the level map, one cell per map character
+        int columns = Math.max(BRICK_PER_ROW, levelMap.getColumns());
+        Brick[] cells = new Brick[columns * levelMap.getRows()];
+
+        for (int row = 0; row < levelMap.getRows(); row++) {
+            for (int col = 0; col < levelMap.getColumns(); col++) {
+                int colorCode = levelMap.getColorCode(col, row);
+
+                if (colorCode != LevelMap.EMPTY) {
+                    cells[row * columns + col] = new Brick((int) (col * (brick_width + SPACE_BETWEEN_BRICKS)), (int) (row * (brick_height + SPACE_BETWEEN_BRICKS)), (int) brick_width, (int) brick_height, colorCode);
+                }
+            }
+        }
+
+        return new LevelLayout(columns, levelMap.getRows(), brick_width + SPACE_BETWEEN_BRICKS, brick_height + SPACE_BETWEEN_BRICKS, cells);
+    }
+
+    /**
+     * Creates a store holding all bricks of the level.
+     *
+     * @param storage The representation of the bricks.
+     * @return A new store, owned by the caller.
+     */
+    public BrickStore createStore(BrickStorage storage) {
+        return storage == BrickStorage.ARRAYS ? createField() : createGrid();
+    }
+
+    /**
+     * Fills all bricks of the level into a store of a previous level or attempt, or creates a new
+     * store if the old one has another representation or grid. Restarting a level thus does not
+     * allocate.
+     *
+     * @param store   The store to reuse, or null.
+     * @param storage The representation of the bricks.
+     * @return The refilled or a new store, owned by the caller.
+     */
+    public BrickStore fillStore(BrickStore store, BrickStorage storage) {
+        boolean reusable = store instanceof BrickField ? storage == BrickStorage.ARRAYS : store instanceof BrickGrid && storage == BrickStorage.OBJECTS;
+
+        if (!reusable || !store.hasGrid(columns, rows, cellWidth, cellHeight)) {
+            return createStore(storage);
+        }
+
+        store.clear();
+
+        if (store instanceof BrickField) {
+            fill((BrickField) store);
+        } else {
+            fill((BrickGrid) store);
+        }
+
+        return store;
+    }
+
+    /**
+     * Creates a field holding all bricks of the level.
+     *
+     * @return A new field, owned by the caller.
+     */
+    public BrickField createField() {
+        BrickField field = new BrickField(columns, rows, cellWidth, cellHeight);
+        fill(field);
+        return field;
+    }
+
+    /**
+     * Creates a grid holding all bricks of the level.
+     *
+     * @return A new grid, owned by the caller.
+     */
+    public BrickGrid createGrid() {
+        BrickGrid grid = new BrickGrid(columns, rows, cellWidth, cellHeight);
+        fill(grid);
+        return grid;
+    }
+
+    /**
+     * Puts all bricks of the level into an empty field.
+     *
+     * @param field The field to fill.
+     */
+    private void fill(BrickField field) {
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i] != null) {
+                field.put(i % columns, i / columns, cells[i]);
+            }
+        }
+    }
+
+    /**
+     * Puts all bricks of the level into an empty grid.
+     *
+     * @param grid The grid to fill.
+     */
+    private void fill(BrickGrid grid) {
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i] != null) {
+                grid.put(i % columns, i / columns, cells[i]);
+            }
+        }
+    }
+
+}
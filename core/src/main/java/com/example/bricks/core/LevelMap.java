@@ -0,0 +1,56 @@
+package com.example.bricks.core;
+
+/**
+ * Parsed level map.
+ * Holds the color code of every cell of the level grid, one row per line of the map file.
+ */
+public class LevelMap {
+
+    public static final byte EMPTY = -1; // Color code of a cell without a brick
+    private final int columns; // Number of cells in a row
+    private final int rows; // Number of rows
+    private final byte[] cells; // Color codes stored row by row
+
+    /**
+     * Constructs a new LevelMap.
+     *
+     * @param columns The number of cells in a row.
+     * @param rows    The number of rows.
+     * @param cells   The color codes stored row by row, {@link #EMPTY} for empty cells.
+     */
+    public LevelMap(int columns, int rows, byte[] cells) {
+        this.columns = columns;
+        this.rows = rows;
+        this.cells = cells;
+    }
+
+    /**
+     * Gets the number of cells in a row.
+     *
+     * @return The number of columns.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return The number of rows.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the color code of a cell.
+     *
+     * @param col The column of the cell.
+     * @param row The row of the cell.
+     * @return The color code, or {@link #EMPTY} if the cell has no brick.
+     */
+    public int getColorCode(int col, int row) {
+        return cells[row * columns + col];
+    }
+
+}
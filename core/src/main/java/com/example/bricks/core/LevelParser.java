@@ -0,0 +1,60 @@
+package com.example.bricks.core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parser for the text level format.
+ * Every line is a row of the level, every character a cell: a space is an empty cell, a digit the
+ * color code of a brick.
+ */
+public final class LevelParser {
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private LevelParser() {
+    }
+
+    /**
+     * Parses a level map.
+     *
+     * @param reader The reader of the level text. It is not closed.
+     * @return The parsed level map.
+     * @throws IOException If the level text cannot be read.
+     */
+    public static LevelMap parse(Reader reader) throws IOException {
+        BufferedReader lineReader = new BufferedReader(reader);
+        List<String> lines = new ArrayList<>();
+        int columns = 0;
+        String line;
+
+        while ((line = lineReader.readLine()) != null) {
+            lines.add(line);
+            columns = Math.max(columns, line.length());
+        }
+
+        byte[] cells = new byte[columns * lines.size()];
+
+        for (int row = 0; row < lines.size(); row++) {
+            line = lines.get(row);
+
+            for (int col = 0; col < columns; col++) {
+                char currentChar = col < line.length() ? line.charAt(col) : ' ';
+
+                if (currentChar == ' ') {
+                    cells[row * columns + col] = LevelMap.EMPTY;
+                } else {
+                    // Characters without a numeric value become bricks of the default color
+                    cells[row * columns + col] = (byte) Math.max(0, Character.getNumericValue(currentChar));
+                }
+            }
+        }
+
+        return new LevelMap(columns, lines.size(), cells);
+    }
+
+}
@@ -0,0 +1,163 @@
+package com.example.bricks.core;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Repository of laid out levels.
+ * Loads and lays out levels on an executor and keeps the most recently used ones in a cache keyed
+ * by level number and world width, so restarts and prefetched levels start without loading.
+ * The cache holds a handful of levels, so it is a linear scan over primitive keys, and looking up
+ * a cached level does not allocate. Safe to use from multiple threads.
+ */
+public class LevelRepository {
+
+    private final LevelSource levelSource; // Source of the level maps
+    private final Executor executor; // Executor loading the levels in the background
+    private final long[] keys; // Key of each cache slot (guarded by tasks)
+    private final FutureTask<LevelLayout>[] tasks; // Loaded or loading level of each slot, null if free (guarded by itself)
+    private final long[] lastUse; // Access stamp of each slot, the smallest is evicted first (guarded by tasks)
+    private long accesses = 0; // Number of cache accesses, stamps the slots (guarded by tasks)
+
+    /**
+     * Constructs a new LevelRepository.
+     *
+     * @param levelSource The source of the level maps, called from the executor's threads.
+     * @param executor    The executor loading levels in the background.
+     * @param capacity    The number of levels kept in the cache, at least one.
+     */
+    public LevelRepository(LevelSource levelSource, Executor executor, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least one: " + capacity);
+        }
+
+        this.levelSource = levelSource;
+        this.executor = executor;
+        this.keys = new long[capacity];
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        FutureTask<LevelLayout>[] slots = new FutureTask[capacity];
+        this.tasks = slots;
+        this.lastUse = new long[capacity];
+    }
+
+    /**
+     * Starts loading a level in the background unless it is cached or already loading.
+     *
+     * @param level The level number.
+     * @param width The width of the world in world units.
+     */
+    public void prefetch(int level, float width) {
+        FutureTask<LevelLayout> task = request(level, width);
+
+        if (!task.isDone()) {
+            executor.execute(task); // A load that has already started makes this a no-op
+        }
+    }
+
+    /**
+     * Gets a level, loading it on the calling thread if no background load has started yet.
+     * A failed load, e.g. a prefetch that hit a transient read error, is dropped from the cache
+     * and retried once on the calling thread.
+     *
+     * @param level The level number.
+     * @param width The width of the world in world units.
+     * @return The laid out level.
+     * @throws RuntimeException If the level source fails twice in a row; the next call retries.
+     */
+    public LevelLayout get(int level, float width) {
+        try {
+            return load(level, width);
+        } catch (RuntimeException e) {
+            return load(level, width);
+        }
+    }
+
+    /**
+     * Gets a level once, dropping its load from the cache if it failed.
+     *
+     * @param level The level number.
+     * @param width The width of the world in world units.
+     * @return The laid out level.
+     */
+    private LevelLayout load(int level, float width) {
+        FutureTask<LevelLayout> task = request(level, width);
+        task.run(); // No effect if the executor has already started or finished the load
+        boolean interrupted = false;
+
+        try {
+            while (true) {
+                try {
+                    return task.get();
+                } catch (InterruptedException e) {
+                    interrupted = true; // The load is already running, finish waiting for it
+                }
+            }
+        } catch (ExecutionException e) {
+            synchronized (tasks) {
+                for (int i = 0; i < tasks.length; i++) {
+                    if (tasks[i] == task) {
+                        tasks[i] = null; // Let the next request retry
+                    }
+                }
+            }
+
+            Throwable cause = e.getCause();
+
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Gets the load of a level from the cache, adding a new one that has not been run yet if the
+     * level is not there.
+     *
+     * @param level The level number.
+     * @param width The width of the world in world units.
+     * @return The load of the level.
+     */
+    private FutureTask<LevelLayout> request(int level, float width) {
+        long key = key(level, width);
+
+        synchronized (tasks) {
+            int slot = 0; // Free or least recently used slot, used on a miss
+
+            for (int i = 0; i < tasks.length; i++) {
+                if (tasks[i] != null && keys[i] == key) {
+                    lastUse[i] = ++accesses;
+                    return tasks[i];
+                }
+
+                if (tasks[slot] != null && (tasks[i] == null || lastUse[i] < lastUse[slot])) {
+                    slot = i;
+                }
+            }
+
+            FutureTask<LevelLayout> task = new FutureTask<>(() -> LevelLayout.of(levelSource.loadLevel(level), width));
+            keys[slot] = key;
+            tasks[slot] = task;
+            lastUse[slot] = ++accesses;
+            return task;
+        }
+    }
+
+    /**
+     * Gets the cache key of a level.
+     *
+     * @param level The level number.
+     * @param width The width of the world in world units.
+     * @return The key combining both.
+     */
+    private static long key(int level, float width) {
+        return ((long) level << 32) | (Float.floatToIntBits(width) & 0xFFFFFFFFL);
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.example.bricks.core;
+
+/**
+ * Interface for providing level maps to the game world.
+ * Implementations decide where the maps come from, e.g. application assets or test fixtures.
+ */
+public interface LevelSource {
+
+    /**
+     * Loads the map of a level.
+     *
+     * @param level The level number, starting at 1.
+     * @return The level map.
+     * @throws java.io.UncheckedIOException If the map cannot be read. The level is not cached,
+     *                                      so the next request reads it again.
+     */
+    LevelMap loadLevel(int level);
+
+}
@@ -0,0 +1,127 @@
+package com.example.bricks.core;
+
+/**
+ * State-aware scheduling of a game loop.
+ * The loop is suspended while any reason holds: the host is in the background, or the game is not
+ * playing and nothing was requested since. A suspended loop blocks in {@link #awaitRunnable()}
+ * without waking up until a reason is cleared, or, when driven by callbacks, stops scheduling
+ * itself when {@link #pollRunnable()} fails. Every resume from a suspension is counted.
+ */
+public final class LoopScheduler {
+
+    public static final int SUSPEND_BACKGROUND = 1; // The host, e.g. the activity, is not visible
+    public static final int SUSPEND_IDLE = 2; // The game is not playing, cleared by wake()
+
+    private int suspendReasons = 0; // Reasons the loop is suspended for (guarded by this)
+    private long wakeRequests = 0; // Number of wake() calls, detects wakes that race with going idle (guarded by this)
+    private long wakeups = 0; // Number of times a suspended loop resumed (guarded by this)
+    private boolean suspensionSeen = false; // Whether a polling loop stopped for a suspension (guarded by this)
+
+    /**
+     * Suspends the loop for a reason, until the reason is cleared with {@link #resume(int)}.
+     *
+     * @param reason The reason, one of the SUSPEND_ constants.
+     */
+    public synchronized void suspend(int reason) {
+        suspendReasons |= reason;
+    }
+
+    /**
+     * Clears reasons to suspend the loop and resumes it if no reason is left.
+     *
+     * @param reasons The reasons to clear, a combination of the SUSPEND_ constants.
+     */
+    public synchronized void resume(int reasons) {
+        suspendReasons &= ~reasons;
+        notifyAll();
+    }
+
+    /**
+     * Requests the loop to run, ending an idle suspension. Must be called after every change
+     * that may resume the game.
+     */
+    public synchronized void wake() {
+        wakeRequests++;
+        resume(SUSPEND_IDLE);
+    }
+
+    /**
+     * Gets a token to pass to {@link #goIdle(long)}. Must be taken before the loop reads the
+     * state that decides whether it goes idle.
+     *
+     * @return The token.
+     */
+    public synchronized long getWakeToken() {
+        return wakeRequests;
+    }
+
+    /**
+     * Suspends the loop because nothing needs to be simulated, unless a wake was requested since
+     * the token was taken.
+     *
+     * @param token The token taken before the loop saw that the game is not playing.
+     */
+    public synchronized void goIdle(long token) {
+        if (wakeRequests == token) {
+            suspendReasons |= SUSPEND_IDLE;
+        }
+    }
+
+    /**
+     * Blocks the calling loop while it is suspended.
+     *
+     * @return True if the loop was suspended and has been resumed, false if it was not suspended.
+     * @throws InterruptedException If the loop is stopped while it waits.
+     */
+    public synchronized boolean awaitRunnable() throws InterruptedException {
+        if (suspendReasons == 0) {
+            return false;
+        }
+
+        while (suspendReasons != 0) {
+            wait();
+        }
+
+        wakeups++;
+        return true;
+    }
+
+    /**
+     * Checks without blocking whether the loop may run, for loops driven by callbacks that stop
+     * scheduling themselves while suspended and are rescheduled after a resume or wake.
+     *
+     * @return True if no reason to suspend the loop holds, false otherwise.
+     */
+    public synchronized boolean pollRunnable() {
+        if (suspendReasons != 0) {
+            suspensionSeen = true;
+            return false;
+        }
+
+        if (suspensionSeen) {
+            suspensionSeen = false;
+            wakeups++;
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if the loop is suspended.
+     *
+     * @return True if any reason to suspend the loop holds, false otherwise.
+     */
+    public synchronized boolean isSuspended() {
+        return suspendReasons != 0;
+    }
+
+    /**
+     * Gets the number of times the loop resumed after being suspended.
+     *
+     * @return The number of wakeups.
+     */
+    public synchronized long getWakeupCount() {
+        return wakeups;
+    }
+
+}
@@ -1,4 +1,4 @@
-package com.example.bricks;
+package com.example.bricks.core;
 
 /**
  * Interface for handling game events.
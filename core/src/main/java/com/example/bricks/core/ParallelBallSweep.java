@@ -0,0 +1,240 @@
+package com.example.bricks.core;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel narrow phase of the extra balls.
+ * The candidate balls of a step are split into chunks swept on a {@link ForkJoinPool}, each with
+ * its own {@link BallSweeper}, against the bricks as they were before the phase. Nothing is
+ * written to the world; the caller merges the results in pool order and sweeps a ball again on
+ * its thread when a result is stale, i.e. when an earlier ball already removed a brick the sweep
+ * hit. Removing a brick the sweep did not hit cannot change it, so the merged step is identical
+ * to the sequential one. The tasks are reused, so a parallel step does not allocate.
+ */
+final class ParallelBallSweep {
+
+    private static final int CHUNKS_PER_THREAD = 4; // Chunks per worker, balances uneven sweeps
+
+    private final ForkJoinPool pool; // Pool running the chunks
+    private final int maxSteps; // Maximum number of impacts resolved per sweep
+    private final Chunk[] chunks; // Reused chunk tasks
+    private final RecursiveAction root; // Reused task forking the chunks
+    private final float[] x; // X-coordinate of each candidate after its sweep
+    private final float[] y; // Y-coordinate of each candidate after its sweep
+    private final float[] xSpeed; // Horizontal speed of each candidate after its sweep
+    private final float[] ySpeed; // Vertical speed of each candidate after its sweep
+    private final int[] hitCount; // Bricks hit by each candidate, -1 if it hit a brick twice
+    private final int[] hits; // Cells of the bricks hit, maxSteps slots per candidate
+
+    // Input of the current phase, published to the workers by the fork
+    private BallPool balls; // Pool holding the candidates
+    private int[] candidates; // Indices of the candidates in the pool
+    private float dt; // Time to simulate, in seconds
+    private float width; // Width of the world
+    private Platform platform; // Platform of the world
+    private BrickStore bricks; // Bricks of the level
+
+    /**
+     * Constructs a ParallelBallSweep.
+     *
+     * @param pool     The pool running the sweeps.
+     * @param capacity The maximum number of candidates per phase.
+     * @param maxSteps The maximum number of impacts resolved per sweep.
+     */
+    ParallelBallSweep(ForkJoinPool pool, int capacity, int maxSteps) {
+        this.pool = pool;
+        this.maxSteps = maxSteps;
+        chunks = new Chunk[pool.getParallelism() * CHUNKS_PER_THREAD];
+
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = new Chunk(new BallSweeper(maxSteps));
+        }
+
+        root = new RecursiveAction() {
+            @Override
+            protected void compute() {
+                ForkJoinTask.invokeAll(chunks);
+            }
+        };
+        x = new float[capacity];
+        y = new float[capacity];
+        xSpeed = new float[capacity];
+        ySpeed = new float[capacity];
+        hitCount = new int[capacity];
+        hits = new int[capacity * maxSteps];
+    }
+
+    /**
+     * Gets the pool running the sweeps.
+     *
+     * @return The pool.
+     */
+    ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Sweeps the candidate balls in parallel without writing to the world.
+     *
+     * @param balls      The pool holding the candidates.
+     * @param candidates The indices of the candidates in the pool.
+     * @param count      The number of candidates.
+     * @param dt         The time to simulate, in seconds.
+     * @param width      The width of the world.
+     * @param platform   The platform.
+     * @param bricks     The bricks of the level.
+     */
+    void sweep(BallPool balls, int[] candidates, int count, float dt, float width, Platform platform, BrickStore bricks) {
+        this.balls = balls;
+        this.candidates = candidates;
+        this.dt = dt;
+        this.width = width;
+        this.platform = platform;
+        this.bricks = bricks;
+
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i].reinitialize();
+            chunks[i].from = (int) ((long) count * i / chunks.length);
+            chunks[i].to = (int) ((long) count * (i + 1) / chunks.length);
+        }
+
+        root.reinitialize();
+        pool.invoke(root);
+
+        this.balls = null;
+        this.platform = null;
+        this.bricks = null;
+    }
+
+    /**
+     * Checks if the sweep of a candidate still holds: it hit no brick twice and all bricks it hit
+     * are still in the store.
+     *
+     * @param c      The number of the candidate.
+     * @param bricks The bricks of the level, as merged so far.
+     * @return True if the result can be applied, false if the ball must be swept again.
+     */
+    boolean isValid(int c, BrickStore bricks) {
+        if (hitCount[c] < 0) {
+            return false;
+        }
+
+        for (int k = 0; k < hitCount[c]; k++) {
+            if (!bricks.contains(hits[c * maxSteps + k])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the number of bricks a candidate hit.
+     *
+     * @param c The number of the candidate.
+     * @return The number of bricks hit.
+     */
+    int getHitCount(int c) {
+        return hitCount[c];
+    }
+
+    /**
+     * Gets a brick hit by a candidate.
+     *
+     * @param c The number of the candidate.
+     * @param k The number of the hit, in order.
+     * @return The cell of the brick.
+     */
+    int getHit(int c, int k) {
+        return hits[c * maxSteps + k];
+    }
+
+    /**
+     * Gets the X-coordinate of a candidate after its sweep.
+     *
+     * @param c The number of the candidate.
+     * @return The X-coordinate.
+     */
+    float getX(int c) {
+        return x[c];
+    }
+
+    /**
+     * Gets the Y-coordinate of a candidate after its sweep.
+     *
+     * @param c The number of the candidate.
+     * @return The Y-coordinate.
+     */
+    float getY(int c) {
+        return y[c];
+    }
+
+    /**
+     * Gets the horizontal speed of a candidate after its sweep.
+     *
+     * @param c The number of the candidate.
+     * @return The horizontal speed, in world units per second.
+     */
+    float getXSpeed(int c) {
+        return xSpeed[c];
+    }
+
+    /**
+     * Gets the vertical speed of a candidate after its sweep.
+     *
+     * @param c The number of the candidate.
+     * @return The vertical speed, in world units per second.
+     */
+    float getYSpeed(int c) {
+        return ySpeed[c];
+    }
+
+    /**
+     * Task sweeping a contiguous range of candidates.
+     */
+    private final class Chunk extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L; // Chunks are never serialized, declared for the Serializable base
+        private final BallSweeper sweeper; // Sweeper owned by this chunk
+        private int from; // First candidate of the range
+        private int to; // End of the range, exclusive
+
+        /**
+         * Constructs a Chunk.
+         *
+         * @param sweeper The sweeper owned by the chunk.
+         */
+        Chunk(BallSweeper sweeper) {
+            this.sweeper = sweeper;
+        }
+
+        /**
+         * Sweeps the candidates of the range and stores the results.
+         */
+        @Override
+        protected void compute() {
+            for (int c = from; c < to; c++) {
+                sweeper.sweep(balls, candidates[c], dt, width, platform, bricks, false);
+                x[c] = sweeper.getX();
+                y[c] = sweeper.getY();
+                xSpeed[c] = sweeper.getXSpeed();
+                ySpeed[c] = sweeper.getYSpeed();
+
+                if (sweeper.isConflicting()) {
+                    hitCount[c] = -1;
+                    continue;
+                }
+
+                hitCount[c] = sweeper.getHitCount();
+
+                for (int k = 0; k < hitCount[c]; k++) {
+                    hits[c * maxSteps + k] = sweeper.getHit(k);
+                }
+            }
+        }
+
+    }
+
+}
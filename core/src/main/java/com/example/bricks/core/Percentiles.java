@@ -0,0 +1,120 @@
+package com.example.bricks.core;
+
+import java.util.Arrays;
+
+/**
+ * Percentiles of the samples held by a {@link SampleRing}.
+ * Owns its scratch buffer, so computing them again does not allocate.
+ */
+public final class Percentiles {
+
+    private final long[] scratch; // Sorted copy of the samples
+    private int count; // Number of samples the percentiles are computed from
+    private long p50; // Median
+    private long p95; // 95th percentile
+    private long p99; // 99th percentile
+    private long max; // Largest sample
+
+    /**
+     * Constructs percentiles for up to the given number of samples.
+     *
+     * @param capacity The maximum number of samples, usually the capacity of the ring buffer.
+     */
+    public Percentiles(int capacity) {
+        scratch = new long[capacity];
+    }
+
+    /**
+     * Computes the percentiles of the most recent samples of a ring buffer.
+     *
+     * @param ring The ring buffer to read.
+     */
+    void compute(SampleRing ring) {
+        count = ring.snapshot(scratch);
+        sortAndRank();
+    }
+
+    /**
+     * Computes the percentiles of an array of samples.
+     *
+     * @param samples The samples, not modified.
+     * @param count   The number of samples to use, at most the capacity.
+     */
+    void compute(long[] samples, int count) {
+        System.arraycopy(samples, 0, scratch, 0, count);
+        this.count = count;
+        sortAndRank();
+    }
+
+    /**
+     * Sorts the samples in the scratch buffer and picks the percentiles.
+     */
+    private void sortAndRank() {
+        Arrays.sort(scratch, 0, count);
+        p50 = rank(50);
+        p95 = rank(95);
+        p99 = rank(99);
+        max = count > 0 ? scratch[count - 1] : 0;
+    }
+
+    /**
+     * Gets a percentile of the sorted samples by the nearest-rank method.
+     *
+     * @param percent The percentile, in the range (0, 100].
+     * @return The sample at the percentile, 0 if there are no samples.
+     */
+    private long rank(int percent) {
+        if (count == 0) {
+            return 0;
+        }
+
+        int index = (percent * count + 99) / 100 - 1; // ceil(percent / 100 * count) - 1
+        return scratch[index];
+    }
+
+    /**
+     * Gets the number of samples the percentiles are computed from.
+     *
+     * @return The number of samples.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the median.
+     *
+     * @return The 50th percentile.
+     */
+    public long getP50() {
+        return p50;
+    }
+
+    /**
+     * Gets the 95th percentile.
+     *
+     * @return The 95th percentile.
+     */
+    public long getP95() {
+        return p95;
+    }
+
+    /**
+     * Gets the 99th percentile.
+     *
+     * @return The 99th percentile.
+     */
+    public long getP99() {
+        return p99;
+    }
+
+    /**
+     * Gets the largest sample.
+     *
+     * @return The largest sample.
+     */
+    public long getMax() {
+        return max;
+    }
+
+}
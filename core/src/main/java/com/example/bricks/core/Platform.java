@@ -0,0 +1,124 @@
+package com.example.bricks.core;
+
+/**
+ * Represents the platform object in the game.
+ * The platform is controlled by the player and is used to bounce the ball.
+ */
+public class Platform {
+
+    private float left; // X-coordinate of the platform's left edge
+    private float previousLeft; // X-coordinate of the left edge at the start of the current simulation step
+    private float top; // Y-coordinate of the platform's top edge
+    private float width; // Width of the platform
+    private float height; // Height of the platform
+
+    /**
+     * Constructs a new Platform object.
+     *
+     * @param x      The x-coordinate of the platform's top-left corner.
+     * @param y      The y-coordinate of the platform's top-left corner.
+     * @param width  The width of the platform.
+     * @param height The height of the platform.
+     */
+    public Platform(float x, float y, float width, float height) {
+        reset(x, y, width, height);
+    }
+
+    /**
+     * Places the platform anew, e.g. after a lost life, so the platform object can be reused.
+     *
+     * @param x      The x-coordinate of the platform's top-left corner.
+     * @param y      The y-coordinate of the platform's top-left corner.
+     * @param width  The width of the platform.
+     * @param height The height of the platform.
+     */
+    public final void reset(float x, float y, float width, float height) {
+        this.left = x;
+        this.previousLeft = x;
+        this.top = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Gets the current x-coordinate of the platform.
+     *
+     * @return The x-coordinate of the platform's left edge.
+     */
+    public float getX() {
+        return left;
+    }
+
+    /**
+     * Updates the x-coordinate of the platform.
+     *
+     * @param x The new x-coordinate for the platform's top-left corner.
+     */
+    public void setX(float x) {
+        left = x;
+    }
+
+    /**
+     * Remembers the current position as the start of a simulation step, for interpolated rendering.
+     */
+    public void savePosition() {
+        previousLeft = left;
+    }
+
+    /**
+     * Gets the left edge to render the platform at, interpolated between the previous and the
+     * current simulation step.
+     *
+     * @param interpolation Fraction of the next step that has elapsed, in the range [0, 1].
+     * @return The interpolated x-coordinate of the platform's left edge.
+     */
+    public float getRenderLeft(float interpolation) {
+        return previousLeft + (left - previousLeft) * interpolation;
+    }
+
+    /**
+     * Gets the left edge of the platform.
+     *
+     * @return The x-coordinate of the platform's left edge.
+     */
+    public float getLeft() {
+        return left;
+    }
+
+    /**
+     * Gets the top edge of the platform.
+     *
+     * @return The y-coordinate of the platform's top edge.
+     */
+    public float getTop() {
+        return top;
+    }
+
+    /**
+     * Gets the right edge of the platform.
+     *
+     * @return The x-coordinate of the platform's right edge.
+     */
+    public float getRight() {
+        return left + width;
+    }
+
+    /**
+     * Gets the bottom edge of the platform.
+     *
+     * @return The y-coordinate of the platform's bottom edge.
+     */
+    public float getBottom() {
+        return top + height;
+    }
+
+    /**
+     * Gets the horizontal center of the platform.
+     *
+     * @return The x-coordinate of the platform's center.
+     */
+    public float getCenterX() {
+        return left + width / 2;
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.example.bricks.core;
+
+/**
+ * Outcome of a replay by {@link InputReplayer}: how far the replayed game agreed with the
+ * recorded one, its final state hash and the time each tick took.
+ */
+public final class ReplayReport {
+
+    private final long ticks; // Number of steps replayed
+    private final int checkpoints; // Number of state hashes compared
+    private final long firstDivergentTick; // Tick whose state hash differed first, -1 if none did
+    private final long finalHash; // State hash at the end of the replay
+    private final long totalNanos; // Time spent in the steps
+    private final Percentiles tickTimes; // Percentiles of the step times in nanoseconds
+
+    /**
+     * Constructs a ReplayReport.
+     *
+     * @param ticks              The number of steps replayed.
+     * @param checkpoints        The number of state hashes compared.
+     * @param firstDivergentTick The tick whose state hash differed first, -1 if none did.
+     * @param finalHash          The state hash at the end of the replay.
+     * @param totalNanos         The time spent in the steps.
+     * @param tickTimes          The percentiles of the step times in nanoseconds.
+     */
+    ReplayReport(long ticks, int checkpoints, long firstDivergentTick, long finalHash, long totalNanos, Percentiles tickTimes) {
+        this.ticks = ticks;
+        this.checkpoints = checkpoints;
+        this.firstDivergentTick = firstDivergentTick;
+        this.finalHash = finalHash;
+        this.totalNanos = totalNanos;
+        this.tickTimes = tickTimes;
+    }
+
+    /**
+     * Checks if every state hash matched the recording.
+     *
+     * @return True if the replay reproduced the recorded game, false otherwise.
+     */
+    public boolean isDeterministic() {
+        return firstDivergentTick < 0;
+    }
+
+    /**
+     * Gets the number of steps replayed.
+     *
+     * @return The number of ticks.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Gets the number of state hashes compared with the recording.
+     *
+     * @return The number of checkpoints.
+     */
+    public int getCheckpoints() {
+        return checkpoints;
+    }
+
+    /**
+     * Gets the tick after which the state first differed from the recording.
+     *
+     * @return The tick, counted from 1, or -1 if the replay never diverged.
+     */
+    public long getFirstDivergentTick() {
+        return firstDivergentTick;
+    }
+
+    /**
+     * Gets the state hash at the end of the replay.
+     *
+     * @return The hash.
+     */
+    public long getFinalHash() {
+        return finalHash;
+    }
+
+    /**
+     * Gets the time spent in the steps.
+     *
+     * @return The total time in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Gets the percentiles of the step times.
+     *
+     * @return The percentiles in nanoseconds.
+     */
+    public Percentiles getTickTimes() {
+        return tickTimes;
+    }
+
+}
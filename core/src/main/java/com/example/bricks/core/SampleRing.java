@@ -0,0 +1,97 @@
+package com.example.bricks.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free ring buffer of the most recent samples.
+ * A single thread records samples while any other thread may copy them out. Recording never
+ * blocks nor allocates; a reader discards the samples that were overwritten while it was copying.
+ */
+public final class SampleRing {
+
+    private final long[] samples; // Recorded samples, indexed by sequence number modulo capacity
+    private final int mask; // Capacity minus one, capacity is a power of two
+    private final AtomicLong written = new AtomicLong(); // Number of samples recorded so far, publishes the samples
+
+    /**
+     * Constructs a ring buffer.
+     *
+     * @param capacity The number of most recent samples kept, a power of two.
+     */
+    public SampleRing(int capacity) {
+        if (capacity <= 0 || (capacity & (capacity - 1)) != 0) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+
+        samples = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Records a sample, overwriting the oldest one when the buffer is full.
+     * Must only be called from a single thread.
+     *
+     * @param sample The sample to record.
+     */
+    public void add(long sample) {
+        long sequence = written.get();
+        samples[(int) (sequence & mask)] = sample;
+        written.lazySet(sequence + 1); // Publish the sample after it is stored
+    }
+
+    /**
+     * Copies the most recent samples, oldest first. The oldest slot may be in the middle of being
+     * overwritten, so at most capacity - 1 samples are copied.
+     *
+     * @param out The array to copy into; at most its length of samples is copied.
+     * @return The number of samples copied.
+     */
+    public int snapshot(long[] out) {
+        long end = written.get();
+        int count = (int) Math.min(end, Math.min(mask, out.length));
+        long start = end - count;
+
+        for (int i = 0; i < count; i++) {
+            out[i] = samples[(int) ((start + i) & mask)];
+        }
+
+        // The writer may have lapped the copy; drop the samples whose slots could have been reused
+        long firstIntact = written.get() - samples.length + 1;
+        int stale = (int) Math.min(count, Math.max(0, firstIntact - start));
+
+        if (stale > 0) {
+            System.arraycopy(out, stale, out, 0, count - stale);
+            count -= stale;
+        }
+
+        return count;
+    }
+
+    /**
+     * Computes the percentiles of the most recent samples.
+     *
+     * @param out The percentiles to fill in.
+     */
+    public void percentiles(Percentiles out) {
+        out.compute(this);
+    }
+
+    /**
+     * Gets the number of samples recorded since the buffer was created.
+     *
+     * @return The number of samples recorded.
+     */
+    public long getTotal() {
+        return written.get();
+    }
+
+    /**
+     * Gets the number of most recent samples kept.
+     *
+     * @return The capacity of the buffer.
+     */
+    public int getCapacity() {
+        return samples.length;
+    }
+
+}
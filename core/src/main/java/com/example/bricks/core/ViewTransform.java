@@ -0,0 +1,66 @@
+package com.example.bricks.core;
+
+/**
+ * Uniform scale from world coordinates to view pixels.
+ * The world is simulated in a fixed logical space of {@link GameWorld#WORLD_WIDTH} units across,
+ * so speeds, sizes and brick layouts do not depend on the screen; only rendering and touch input
+ * go through this transform.
+ */
+public final class ViewTransform {
+
+    private final float scale; // View pixels per world unit
+
+    /**
+     * Constructs a transform with the given scale.
+     *
+     * @param scale The number of view pixels per world unit, greater than zero.
+     */
+    public ViewTransform(float scale) {
+        if (!(scale > 0)) {
+            throw new IllegalArgumentException("Scale must be positive: " + scale);
+        }
+
+        this.scale = scale;
+    }
+
+    /**
+     * Creates a transform that fits the width of the world to the width of the view.
+     *
+     * @param worldWidth The width of the world in world units.
+     * @param viewWidth  The width of the view in pixels.
+     * @return The transform.
+     */
+    public static ViewTransform fitWidth(float worldWidth, float viewWidth) {
+        return new ViewTransform(viewWidth / worldWidth);
+    }
+
+    /**
+     * Gets the scale of the transform.
+     *
+     * @return The number of view pixels per world unit.
+     */
+    public float getScale() {
+        return scale;
+    }
+
+    /**
+     * Converts a world coordinate or length to view pixels.
+     *
+     * @param world The coordinate or length in world units.
+     * @return The coordinate or length in view pixels.
+     */
+    public float toView(float world) {
+        return world * scale;
+    }
+
+    /**
+     * Converts a view coordinate or length to world units.
+     *
+     * @param view The coordinate or length in view pixels.
+     * @return The coordinate or length in world units.
+     */
+    public float toWorld(float view) {
+        return view / scale;
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.example.bricks.core;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Local unit test checking that the steady-state simulation step, with its collision, scoring
+ * and event code, does not allocate.
+ */
+public class BallAllocationTest {
+
+    private static final int WARM_UP_STEPS = 5_000; // Steps run before measuring, lets the JIT settle
+    private static final int MEASURED_STEPS = 5_000; // Steps run while measuring allocations
+    private static final int MAX_MEASUREMENTS = 5; // Runs of measured steps until one allocates nothing
+    private static final int ROWS = 40; // Rows of bricks, enough to keep the level going while measuring
+
+    @Test
+    public void step_doesNotAllocate_discreteObjects() {
+        assertStepsDoNotAllocate(BrickStorage.OBJECTS, false);
+    }
+
+    @Test
+    public void step_doesNotAllocate_discreteArrays() {
+        assertStepsDoNotAllocate(BrickStorage.ARRAYS, false);
+    }
+
+    @Test
+    public void step_doesNotAllocate_continuousObjects() {
+        assertStepsDoNotAllocate(BrickStorage.OBJECTS, true);
+    }
+
+    @Test
+    public void step_doesNotAllocate_continuousArrays() {
+        assertStepsDoNotAllocate(BrickStorage.ARRAYS, true);
+    }
+
+    /**
+     * Plays a dense level with a platform that follows the ball, and checks that the steps
+     * allocate no bytes. The JIT compiler occasionally allocates a few bytes on the thread whose
+     * code it compiles, so the steps are measured again, a few times at most, until a whole run
+     * allocates nothing.
+     *
+     * @param storage             The representation of the bricks.
+     * @param continuousCollision True to sweep the ball, false to test overlaps.
+     */
+    private static void assertStepsDoNotAllocate(BrickStorage storage, boolean continuousCollision) {
+        java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        assumeTrue(allocationBean.isThreadAllocatedMemorySupported());
+        allocationBean.setThreadAllocatedMemoryEnabled(true);
+
+        StringBuilder map = new StringBuilder();
+
+        for (int row = 0; row < ROWS; row++) {
+            map.append("0123456789\n");
+        }
+
+        String[] levels = new String[GameWorld.MAX_LEVELS];
+        Arrays.fill(levels, map.toString());
+        GameWorld world = new GameWorld(GameWorld.WORLD_WIDTH, 2400, GameWorldTest.levelSource(levels));
+        int[] events = new int[1];
+        world.setOnGameEventListener(event -> events[0]++);
+        world.setBrickStorage(storage);
+        world.setContinuousCollision(continuousCollision);
+        world.startGame();
+        runSteps(world, 0, WARM_UP_STEPS);
+
+        long threadId = Thread.currentThread().getId();
+        int steps = WARM_UP_STEPS;
+        int score = world.getScore();
+        long allocated = -1;
+
+        for (int run = 0; run < MAX_MEASUREMENTS && allocated != 0; run++) {
+            long before = allocationBean.getThreadAllocatedBytes(threadId);
+            runSteps(world, steps, MEASURED_STEPS);
+            allocated = allocationBean.getThreadAllocatedBytes(threadId) - before;
+            steps += MEASURED_STEPS;
+        }
+
+        assertEquals("Bytes allocated by " + MEASURED_STEPS + " steps", 0, allocated);
+        assertTrue("Level ended while measuring", world.isPlaying());
+        assertTrue("No brick hit while measuring", world.getScore() > score);
+        assertTrue(events[0] > 0);
+    }
+
+    /**
+     * Simulates steps with a platform that follows the ball, slightly off center so the ball keeps
+     * changing its direction.
+     *
+     * @param world The world to play in.
+     * @param first The number of steps simulated before.
+     * @param count The number of steps to simulate.
+     */
+    private static void runSteps(GameWorld world, int first, int count) {
+        for (int step = first; step < first + count; step++) {
+            Platform platform = world.getPlatform();
+            float offset = ((step / 100) % 5 - 2) * (platform.getRight() - platform.getLeft()) / 6;
+            world.step(GameWorld.STEP_SECONDS, world.getBall().getX() + offset - platform.getCenterX());
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.example.bricks.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Random;
+
+/**
+ * Unit tests for the structure-of-arrays brick store, checked against the brick grid.
+ */
+public class BrickFieldTest {
+
+    private static final String LEVEL = "0123456 01\n 1 2 3 4 5\n6666666666\n\n01  23  45";
+
+    @Test
+    public void queries_matchBrickGrid() throws IOException {
+        LevelLayout layout = LevelLayout.of(LevelParser.parse(new StringReader(LEVEL)), 1080);
+        BrickGrid grid = layout.createGrid();
+        BrickField field = layout.createField();
+        Contact gridContact = new Contact();
+        Contact fieldContact = new Contact();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 10_000; i++) {
+            float x = random.nextFloat() * 1080;
+            float y = random.nextFloat() * 600;
+            float dx = (random.nextFloat() - 0.5f) * 200;
+            float dy = (random.nextFloat() - 0.5f) * 200;
+
+            int hit = grid.findColliding(x, y, 21.6f, gridContact);
+            assertEquals(hit, field.findColliding(x, y, 21.6f, fieldContact));
+            assertEquals(grid.sweep(x, y, 21.6f, dx, dy, gridContact), field.sweep(x, y, 21.6f, dx, dy, fieldContact));
+
+            if (hit >= 0 && random.nextInt(10) == 0) {
+                grid.remove(hit);
+                field.remove(hit);
+                assertFalse(field.contains(hit));
+            }
+        }
+
+        assertEquals(grid.size(), field.size());
+    }
+
+    @Test
+    public void nextBrick_visitsBricksInCellOrder() throws IOException {
+        LevelLayout layout = LevelLayout.of(LevelParser.parse(new StringReader(LEVEL)), 1080);
+        BrickGrid grid = layout.createGrid();
+        BrickField field = layout.createField();
+        field.remove(0);
+        grid.remove(0);
+        int visited = 0;
+
+        for (int i = field.nextBrick(0), j = grid.nextBrick(0); i >= 0 || j >= 0; i = field.nextBrick(i + 1), j = grid.nextBrick(j + 1)) {
+            assertEquals(j, i);
+            assertEquals(grid.getLeft(j), field.getLeft(i), 0f);
+            assertEquals(grid.getBottom(j), field.getBottom(i), 0f);
+            assertEquals(grid.getPaletteIndex(j), field.getPaletteIndex(i));
+            visited++;
+        }
+
+        assertEquals(field.size(), visited);
+        assertEquals(-1, field.nextBrick(field.getCellCount()));
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.example.bricks.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for the collision primitives.
+ */
+public class CollisionTest {
+
+    private static final float EPSILON = 1e-5f;
+
+    @Test
+    public void intersects_overlappingBoxes() {
+        assertTrue(Collision.intersects(0, 0, 10, 10, 5, 5, 15, 15));
+        assertFalse(Collision.intersects(0, 0, 10, 10, 10, 0, 20, 10)); // Touching edges
+        assertFalse(Collision.intersects(0, 0, 10, 10, 20, 20, 30, 30));
+    }
+
+    @Test
+    public void circleIntersectsRect_hitFromAbove() {
+        Contact contact = new Contact();
+
+        assertTrue(Collision.circleIntersectsRect(50, 8, 5, 0, 10, 100, 20, contact));
+        assertEquals(0f, contact.getNormalX(), EPSILON);
+        assertEquals(-1f, contact.getNormalY(), EPSILON);
+        assertEquals(3f, contact.getDepth(), EPSILON);
+    }
+
+    @Test
+    public void circleIntersectsRect_hitFromTheSide() {
+        Contact contact = new Contact();
+
+        assertTrue(Collision.circleIntersectsRect(103, 15, 5, 0, 10, 100, 20, contact));
+        assertEquals(1f, contact.getNormalX(), EPSILON);
+        assertEquals(0f, contact.getNormalY(), EPSILON);
+        assertEquals(2f, contact.getDepth(), EPSILON);
+    }
+
+    @Test
+    public void circleIntersectsRect_hitOnCorner() {
+        Contact contact = new Contact();
+
+        assertTrue(Collision.circleIntersectsRect(103, 24, 6, 0, 10, 100, 20, contact));
+        assertEquals(0.6f, contact.getNormalX(), EPSILON);
+        assertEquals(0.8f, contact.getNormalY(), EPSILON);
+        assertEquals(1f, contact.getDepth(), EPSILON);
+
+        // Inside the bounding box, but outside the rounded corner
+        assertFalse(Collision.circleIntersectsRect(104, 24, 5, 0, 10, 100, 20, contact));
+    }
+
+    @Test
+    public void circleIntersectsRect_centerInside() {
+        Contact contact = new Contact();
+
+        assertTrue(Collision.circleIntersectsRect(50, 18, 5, 0, 10, 100, 20, contact));
+        assertEquals(0f, contact.getNormalX(), EPSILON);
+        assertEquals(1f, contact.getNormalY(), EPSILON);
+        assertEquals(7f, contact.getDepth(), EPSILON);
+    }
+
+    @Test
+    public void circleTouchesWalls_reportsInwardNormal() {
+        Contact contact = new Contact();
+
+        assertFalse(Collision.circleTouchesWalls(50, 50, 5, 0, 0, 100, Float.POSITIVE_INFINITY, contact));
+
+        assertTrue(Collision.circleTouchesWalls(97, 50, 5, 0, 0, 100, Float.POSITIVE_INFINITY, contact));
+        assertEquals(-1f, contact.getNormalX(), EPSILON);
+        assertEquals(2f, contact.getDepth(), EPSILON);
+
+        assertTrue(Collision.circleTouchesWalls(50, 1, 5, 0, 0, 100, Float.POSITIVE_INFINITY, contact));
+        assertEquals(1f, contact.getNormalY(), EPSILON);
+        assertEquals(4f, contact.getDepth(), EPSILON);
+    }
+
+    @Test
+    public void bounce_reflectsOnlyWhenApproaching() {
+        Ball ball = new Ball(50, 38, 5, 150, 200);
+        Contact contact = new Contact();
+
+        assertTrue(ball.collides(0, 40, 100, 50, contact));
+        assertTrue(ball.bounce(contact));
+        assertEquals(35f, ball.getY(), EPSILON); // Moved out of the box
+
+        ball.advance(0.02f); // Moves up: x + 3, y - 4
+        assertEquals(53f, ball.getX(), EPSILON);
+        assertEquals(31f, ball.getY(), EPSILON);
+    }
+
+    @Test
+    public void sweepCircleRect_fastCircleDoesNotTunnel() {
+        Contact contact = new Contact();
+
+        // Thin box crossed completely within one movement
+        assertFalse(Collision.circleIntersectsRect(50, 100, 5, 0, 200, 100, 202, contact));
+        assertTrue(Collision.sweepCircleRect(50, 100, 5, 0, 200, 0, 200, 100, 202, contact));
+        assertEquals(0f, contact.getNormalX(), EPSILON);
+        assertEquals(-1f, contact.getNormalY(), EPSILON);
+        assertEquals(0.475f, contact.getTime(), EPSILON); // Touches at y = 195
+    }
+
+    @Test
+    public void sweepCircleRect_missesOutsideMovement() {
+        Contact contact = new Contact();
+
+        assertFalse(Collision.sweepCircleRect(50, 100, 5, 0, 50, 0, 200, 100, 202, contact)); // Too short
+        assertFalse(Collision.sweepCircleRect(150, 100, 5, 0, 200, 0, 200, 100, 202, contact)); // Passes beside
+        assertFalse(Collision.sweepCircleRect(50, 100, 5, 0, -200, 0, 200, 100, 202, contact)); // Moves away
+    }
+
+    @Test
+    public void sweepCircleRect_hitsRoundedCorner() {
+        Contact contact = new Contact();
+
+        // Moving down along x = 103, the circle meets the corner (100, 200) when 4 units above it
+        assertTrue(Collision.sweepCircleRect(103, 100, 5, 0, 200, 0, 200, 100, 202, contact));
+        assertEquals(0.6f, contact.getNormalX(), EPSILON);
+        assertEquals(-0.8f, contact.getNormalY(), EPSILON);
+        assertEquals(0.48f, contact.getTime(), EPSILON);
+
+        // Beyond the corner radius the box is missed
+        assertFalse(Collision.sweepCircleRect(105.5f, 100, 5, 0, 200, 0, 200, 100, 202, contact));
+    }
+
+    @Test
+    public void sweepCircleWalls_findsEarliestWall() {
+        Contact contact = new Contact();
+
+        assertTrue(Collision.sweepCircleWalls(50, 50, 5, 100, -20, 0, 0, 100, Float.POSITIVE_INFINITY, contact));
+        assertEquals(-1f, contact.getNormalX(), EPSILON);
+        assertEquals(0.45f, contact.getTime(), EPSILON); // Right wall before the ceiling
+
+        assertFalse(Collision.sweepCircleWalls(50, 50, 5, 10, 500, 0, 0, 100, Float.POSITIVE_INFINITY, contact));
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.example.bricks.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for the game loop instrumentation.
+ */
+public class FrameStatsTest {
+
+    private static final long FRAME = 16_666_667L; // 60 Hz frame interval in nanoseconds
+
+    @Test
+    public void percentiles_useNearestRank() {
+        SampleRing ring = new SampleRing(128);
+
+        for (int i = 100; i >= 1; i--) {
+            ring.add(i);
+        }
+
+        Percentiles percentiles = new Percentiles(128);
+        ring.percentiles(percentiles);
+
+        assertEquals(100, percentiles.getCount());
+        assertEquals(50, percentiles.getP50());
+        assertEquals(95, percentiles.getP95());
+        assertEquals(99, percentiles.getP99());
+        assertEquals(100, percentiles.getMax());
+    }
+
+    @Test
+    public void ring_keepsMostRecentSamples() {
+        SampleRing ring = new SampleRing(8);
+
+        for (int i = 0; i < 20; i++) {
+            ring.add(i);
+        }
+
+        long[] out = new long[8];
+        assertEquals(7, ring.snapshot(out));
+        assertEquals(13, out[0]);
+        assertEquals(19, out[6]);
+        assertEquals(20, ring.getTotal());
+    }
+
+    @Test
+    public void ring_readerSeesConsecutiveSamplesWhileWriting() throws InterruptedException {
+        SampleRing ring = new SampleRing(64);
+        Thread writer = new Thread(() -> {
+            for (long i = 0; i < 2_000_000; i++) {
+                ring.add(i);
+            }
+        });
+        writer.start();
+
+        long[] out = new long[64];
+
+        while (writer.isAlive()) {
+            int count = ring.snapshot(out);
+
+            for (int i = 1; i < count; i++) {
+                assertEquals(out[i - 1] + 1, out[i]);
+            }
+        }
+
+        writer.join();
+    }
+
+    @Test
+    public void frames_countDroppedFramesBetweenRecordedFrames() {
+        FrameStats stats = new FrameStats(FRAME);
+        stats.recordFrame(0, 1000);
+        stats.recordFrame(FRAME, 1000); // On time
+        stats.recordFrame(FRAME * 4, 1000); // Two frames missed
+        stats.resetFrameClock();
+        stats.recordFrame(FRAME * 100, 1000); // Paused, nothing missed
+
+        assertEquals(4, stats.getFrameCount());
+        assertEquals(2, stats.getDroppedFrames());
+
+        Percentiles percentiles = new Percentiles(FrameStats.CAPACITY);
+        stats.getDrawPercentiles(percentiles);
+        assertEquals(1000, percentiles.getP99());
+    }
+
+    @Test
+    public void gcCount_isRelativeToFirstReport() {
+        FrameStats stats = new FrameStats(FRAME);
+        stats.setGcTotal(40);
+        stats.setGcTotal(43);
+
+        assertEquals(3, stats.getGcCount());
+        assertTrue(stats.getTickCount() == 0);
+    }
+
+}
@@ -0,0 +1,265 @@
+package com.example.bricks.core;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests running the headless game world on the JVM.
+ */
+public class GameWorldTest {
+
+    static final String[] LEVELS = {
+            "\n    3\n   2  1",
+            "0000000000\n1111111111\n222   2222",
+            " 00000000\n1111111111\n 22222222",
+    };
+    private static final int MAX_STEPS = 200_000; // Upper bound of simulated steps for a whole game
+
+    @Test
+    public void levelParser_readsColorCodesAndGaps() throws IOException {
+        LevelMap map = LevelParser.parse(new StringReader("12 \n  x"));
+
+        assertEquals(3, map.getColumns());
+        assertEquals(2, map.getRows());
+        assertEquals(1, map.getColorCode(0, 0));
+        assertEquals(2, map.getColorCode(1, 0));
+        assertEquals(LevelMap.EMPTY, map.getColorCode(2, 0));
+        assertEquals(LevelMap.EMPTY, map.getColorCode(0, 1));
+        assertEquals(33, map.getColorCode(2, 1)); // Letters keep their numeric value
+    }
+
+    @Test
+    public void autopilot_completesAllLevels() {
+        GameWorld world = createWorld();
+        int steps = playGame(world);
+
+        assertTrue("Game not completed in " + steps + " steps", world.isGameCompleted());
+        assertFalse(world.isPlaying());
+        assertEquals(10 * (3 + 27 + 26), world.getScore());
+    }
+
+    @Test
+    public void simulation_isDeterministic() {
+        GameWorld first = createWorld();
+        GameWorld second = createWorld();
+
+        assertEquals(playGame(first), playGame(second));
+        assertEquals(first.getScore(), second.getScore());
+        assertEquals(first.getAttempts(), second.getAttempts());
+    }
+
+    @Test
+    public void brickStorage_doesNotChangeSimulation() {
+        GameWorld objects = createWorld();
+        GameWorld arrays = createWorld();
+        arrays.setBrickStorage(BrickStorage.ARRAYS);
+
+        assertEquals(playGame(objects), playGame(arrays));
+        assertTrue(arrays.getBricks() instanceof BrickField);
+        assertEquals(objects.getScore(), arrays.getScore());
+        assertEquals(objects.getAttempts(), arrays.getAttempts());
+    }
+
+    @Test
+    public void extraBalls_areLostWithoutCostingAttempts() {
+        GameWorld world = createWorld();
+        world.startGame();
+        float x = world.getWidth() / 4; // Away from the platform
+        assertTrue(world.spawnBall(x, world.getHeight() - 100, 0, 1000));
+
+        for (int i = 0; i < 50; i++) {
+            world.step(GameWorld.STEP_SECONDS);
+        }
+
+        assertEquals(0, world.getBalls().size());
+        assertEquals(3, world.getAttempts());
+    }
+
+    @Test
+    public void extraBalls_destroyBricksDeterministically() {
+        GameWorld first = createWorld();
+        GameWorld second = createWorld();
+        first.startGame();
+        second.startGame();
+
+        for (int i = 0; i < GameWorld.MAX_BALLS; i++) {
+            float xSpeed = (i % 21 - 10) * 40;
+            assertTrue(first.spawnBall(first.getWidth() / 2, first.getHeight() / 2, xSpeed, -700));
+            assertTrue(second.spawnBall(second.getWidth() / 2, second.getHeight() / 2, xSpeed, -700));
+        }
+
+        assertFalse(first.spawnBall(0, 0, 0, 0)); // Pool is full
+
+        for (int i = 0; i < 100; i++) {
+            first.step(GameWorld.STEP_SECONDS);
+            second.step(GameWorld.STEP_SECONDS);
+        }
+
+        assertTrue(first.isLevelCleared()); // Three bricks do not stand a chance
+        assertEquals(30, first.getScore());
+        assertEquals(first.getBalls().size(), second.getBalls().size());
+
+        for (int i = 0; i < first.getBalls().size(); i++) {
+            assertEquals(first.getBalls().getX(i), second.getBalls().getX(i), 0f);
+            assertEquals(first.getBalls().getY(i), second.getBalls().getY(i), 0f);
+        }
+    }
+
+    @Test
+    public void stepWithMove_interpolatesPlatform() {
+        GameWorld world = createWorld();
+        world.startGame();
+        Platform platform = world.getPlatform();
+        float left = platform.getLeft();
+        world.step(GameWorld.STEP_SECONDS, 30);
+
+        assertEquals(left, platform.getRenderLeft(0f), 0f);
+        assertEquals(left + 30, platform.getRenderLeft(1f), 0f);
+        assertNotEquals(platform.getRenderLeft(0f), platform.getRenderLeft(1f), 0f);
+    }
+
+    @Test
+    public void parallelCollision_isIdenticalToSequential() {
+        StringBuilder map = new StringBuilder();
+
+        for (int row = 0; row < 20; row++) {
+            map.append("0123456789\n");
+        }
+
+        GameWorld sequential = createWorld(map.toString());
+        GameWorld parallel = createWorld(map.toString());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        int[] hits = new int[2];
+        sequential.setOnGameEventListener(event -> hits[0]++);
+        parallel.setOnGameEventListener(event -> hits[1]++);
+        parallel.setCollisionPool(pool);
+
+        try {
+            sequential.startGame();
+            parallel.startGame();
+
+            for (int step = 0; step < 300 && sequential.isPlaying(); step++) {
+                // Keep the pool full of balls fanned out upwards
+                for (int i = sequential.getBalls().size(); i < GameWorld.MAX_BALLS; i++) {
+                    float x = 100 + (i * 37 + step) % 880;
+                    float xSpeed = (i % 21 - 10) * 60;
+                    sequential.spawnBall(x, 2000, xSpeed, -900);
+                    parallel.spawnBall(x, 2000, xSpeed, -900);
+                }
+
+                sequential.step(GameWorld.STEP_SECONDS);
+                parallel.step(GameWorld.STEP_SECONDS);
+                assertEquals(sequential.getBalls().size(), parallel.getBalls().size());
+
+                for (int i = 0; i < sequential.getBalls().size(); i++) {
+                    assertEquals(Float.floatToIntBits(sequential.getBalls().getX(i)), Float.floatToIntBits(parallel.getBalls().getX(i)));
+                    assertEquals(Float.floatToIntBits(sequential.getBalls().getY(i)), Float.floatToIntBits(parallel.getBalls().getY(i)));
+                    assertEquals(Float.floatToIntBits(sequential.getBalls().getXSpeed(i)), Float.floatToIntBits(parallel.getBalls().getXSpeed(i)));
+                    assertEquals(Float.floatToIntBits(sequential.getBalls().getYSpeed(i)), Float.floatToIntBits(parallel.getBalls().getYSpeed(i)));
+                }
+
+                assertEquals(sequential.getBricks().size(), parallel.getBricks().size());
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertTrue(sequential.getScore() > 0);
+        assertEquals(sequential.getScore(), parallel.getScore());
+        assertEquals(hits[0], hits[1]);
+    }
+
+    /**
+     * Creates a world of a 1080 x 2400 screen playing the test levels.
+     *
+     * @return The game world.
+     */
+    static GameWorld createWorld() {
+        return createWorld(GameWorld.WORLD_WIDTH, 2400);
+    }
+
+    /**
+     * Creates a world of the given size playing the test levels.
+     *
+     * @param width  The width of the world in world units.
+     * @param height The height of the world in world units.
+     * @return The game world.
+     */
+    static GameWorld createWorld(float width, float height) {
+        return createWorld(width, height, LEVELS);
+    }
+
+    /**
+     * Creates a world of a 1080 x 2400 screen playing the given level map on every level.
+     *
+     * @param map The level map text.
+     * @return The game world.
+     */
+    private static GameWorld createWorld(String map) {
+        String[] levels = new String[GameWorld.MAX_LEVELS];
+        Arrays.fill(levels, map);
+        return createWorld(GameWorld.WORLD_WIDTH, 2400, levels);
+    }
+
+    /**
+     * Creates a world of the given size playing the given level maps.
+     *
+     * @param width  The width of the world in world units.
+     * @param height The height of the world in world units.
+     * @param levels The text of the level maps, in order.
+     * @return The game world.
+     */
+    private static GameWorld createWorld(float width, float height, String[] levels) {
+        return new GameWorld(width, height, levelSource(levels));
+    }
+
+    /**
+     * Creates a source of level maps.
+     *
+     * @param levels The text of the level maps, in order.
+     * @return The level source.
+     */
+    static LevelSource levelSource(String... levels) {
+        return level -> {
+            try {
+                return LevelParser.parse(new StringReader(levels[level - 1]));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    /**
+     * Plays a whole game with a platform that follows the ball, slightly off center so the ball
+     * keeps changing its direction.
+     *
+     * @param world The world to play in.
+     * @return The number of simulated steps.
+     */
+    static int playGame(GameWorld world) {
+        world.startGame();
+        int steps = 0;
+
+        while (steps < MAX_STEPS && !world.isGameCompleted() && !world.isGameOvered()) {
+            if (world.isLevelCleared()) {
+                world.startNextLevel();
+            }
+
+            Platform platform = world.getPlatform();
+            float offset = ((steps / 100) % 5 - 2) * (platform.getRight() - platform.getLeft()) / 6;
+            world.movePlatformBy(world.getBall().getX() + offset - platform.getCenterX());
+            world.step(GameWorld.STEP_SECONDS);
+            steps++;
+        }
+
+        return steps;
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.example.bricks.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for the lock-free queue of platform movements.
+ */
+public class InputQueueTest {
+
+    @Test
+    public void drain_sumsMovementsOnce() {
+        InputQueue queue = new InputQueue(8);
+        queue.offer(3f);
+        queue.offer(-1f);
+        queue.offer(0.5f);
+
+        assertEquals(2.5f, queue.drain(), 0f);
+        assertEquals(0f, queue.drain(), 0f);
+    }
+
+    @Test
+    public void offer_whenFull_keepsMovementForNextDrain() {
+        InputQueue queue = new InputQueue(2);
+        queue.offer(1f);
+        queue.offer(2f);
+        queue.offer(4f); // Full, overflows
+        queue.offer(8f);
+
+        assertEquals(15f, queue.drain(), 0f);
+
+        queue.offer(16f);
+        assertEquals(16f, queue.drain(), 0f);
+    }
+
+    @Test
+    public void concurrentProducer_losesNothing() throws InterruptedException {
+        InputQueue queue = new InputQueue(16);
+        int movements = 200_000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < movements; i++) {
+                queue.offer(1f);
+            }
+        });
+
+        double total = 0; // Whole numbers below 2^24 add up exactly in float
+        producer.start();
+
+        while (producer.isAlive()) {
+            total += queue.drain();
+        }
+
+        producer.join();
+        total += queue.drain();
+
+        assertEquals(movements, total, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_rejectsOtherCapacities() {
+        new InputQueue(12);
+    }
+
+}
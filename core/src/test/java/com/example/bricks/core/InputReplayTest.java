@@ -0,0 +1,92 @@
+package com.example.bricks.core;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests recording games and replaying them headless.
+ */
+public class InputReplayTest {
+
+    @Test
+    public void replay_reproducesRecordedGame() throws IOException {
+        GameWorld world = GameWorldTest.createWorld();
+        InputRecorder recorder = new InputRecorder(world);
+        world.setInputRecorder(recorder);
+        world.setBrickStorage(BrickStorage.ARRAYS);
+        int steps = GameWorldTest.playGame(world);
+
+        byte[] log = recorder.toByteArray();
+        ReplayReport report = InputReplayer.replay(log, GameWorldTest.levelSource(GameWorldTest.LEVELS));
+
+        assertTrue("Diverged after tick " + report.getFirstDivergentTick(), report.isDeterministic());
+        assertEquals(steps, report.getTicks());
+        assertEquals(steps / InputRecorder.DEFAULT_CHECKPOINT_INTERVAL, report.getCheckpoints());
+        assertEquals(world.stateHash(), report.getFinalHash());
+        assertEquals(steps, report.getTickTimes().getCount());
+        assertTrue(report.getTickTimes().getMax() >= report.getTickTimes().getP50());
+    }
+
+    @Test
+    public void replay_reproducesMovesAppliedWithSteps() throws IOException {
+        GameWorld world = GameWorldTest.createWorld();
+        InputRecorder recorder = new InputRecorder(world);
+        world.setInputRecorder(recorder);
+        world.startGame();
+
+        for (int i = 0; i < 200; i++) {
+            world.step(GameWorld.STEP_SECONDS, (i / 20 % 2 == 0 ? 1 : -1) * 15);
+        }
+
+        ReplayReport report = InputReplayer.replay(recorder.toByteArray(), GameWorldTest.levelSource(GameWorldTest.LEVELS));
+
+        assertTrue("Diverged after tick " + report.getFirstDivergentTick(), report.isDeterministic());
+        assertEquals(world.stateHash(), report.getFinalHash());
+    }
+
+    @Test
+    public void replay_withOtherLevels_reportsDivergence() throws IOException {
+        GameWorld world = GameWorldTest.createWorld();
+        InputRecorder recorder = new InputRecorder(world, 10);
+        world.setInputRecorder(recorder);
+        GameWorldTest.playGame(world);
+
+        String[] levels = GameWorldTest.LEVELS.clone();
+        levels[0] = "3";
+        ReplayReport report = InputReplayer.replay(recorder.toByteArray(), GameWorldTest.levelSource(levels));
+
+        assertFalse(report.isDeterministic());
+        assertEquals(10, report.getFirstDivergentTick()); // The first checkpoint already sees other bricks
+    }
+
+    @Test
+    public void recorder_coalescesIdleSteps() {
+        GameWorld world = GameWorldTest.createWorld();
+        InputRecorder recorder = new InputRecorder(world, 1000);
+        world.setInputRecorder(recorder);
+        int headerAndSettings = recorder.toByteArray().length;
+
+        for (int i = 0; i < 999; i++) {
+            world.step(GameWorld.STEP_SECONDS); // Not playing, nothing else to record
+        }
+
+        assertEquals(headerAndSettings + 1 + 2 + 4, recorder.toByteArray().length); // One run of 999 steps
+        assertEquals(999, recorder.getTicks());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void recorder_cannotJoinStartedGame() {
+        GameWorld world = GameWorldTest.createWorld();
+        world.startGame();
+        world.setInputRecorder(new InputRecorder(world));
+    }
+
+    @Test(expected = IOException.class)
+    public void replay_rejectsOtherData() throws IOException {
+        InputReplayer.replay(new byte[32], GameWorldTest.levelSource(GameWorldTest.LEVELS));
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.example.bricks.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+
+/**
+ * Unit tests for the binary level format.
+ */
+public class LevelFormatTest {
+
+    @Test
+    public void decode_restoresEncodedMap() throws IOException {
+        LevelMap map = LevelParser.parse(new StringReader("0123\n 45\n6 x"));
+
+        LevelMap decoded = LevelFormat.decode(ByteBuffer.wrap(LevelFormat.encode(map)));
+
+        assertEquals(map.getColumns(), decoded.getColumns());
+        assertEquals(map.getRows(), decoded.getRows());
+
+        for (int row = 0; row < map.getRows(); row++) {
+            for (int col = 0; col < map.getColumns(); col++) {
+                assertEquals(map.getColorCode(col, row), decoded.getColorCode(col, row));
+            }
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void decode_rejectsText() throws IOException {
+        LevelFormat.decode(ByteBuffer.wrap("0123456789012345".getBytes()));
+    }
+
+    @Test
+    public void decode_rejectsVersionsOutOfRange() {
+        for (short version : new short[]{0, -1, LevelFormat.VERSION + 1}) {
+            byte[] encoded = LevelFormat.encode(new LevelMap(2, 1, new byte[2]));
+            ByteBuffer.wrap(encoded).putShort(4, version); // Version follows the magic number
+
+            try {
+                LevelFormat.decode(ByteBuffer.wrap(encoded));
+                fail("Accepted version " + version);
+            } catch (IOException expected) {
+                // Corrupt or newer header
+            }
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void decode_rejectsTruncatedLevel() throws IOException {
+        byte[] encoded = LevelFormat.encode(new LevelMap(10, 2, new byte[20]));
+        ByteBuffer truncated = ByteBuffer.wrap(encoded, 0, encoded.length - 1);
+
+        LevelFormat.decode(truncated);
+    }
+
+}
@@ -0,0 +1,146 @@
+package com.example.bricks.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for the level repository.
+ */
+public class LevelRepositoryTest {
+
+    private final List<Integer> loads = new ArrayList<>(); // Levels loaded from the source, in order
+    private final List<Runnable> queued = new ArrayList<>(); // Background loads not run yet
+
+    /**
+     * Source of single-row levels with as many bricks as the level number.
+     */
+    private final LevelSource source = level -> {
+        loads.add(level);
+        return new LevelMap(level, 1, new byte[level]);
+    };
+
+    @Test
+    public void get_cachesLevelPerWidth() {
+        LevelRepository repository = new LevelRepository(source, queued::add, 4);
+
+        LevelLayout layout = repository.get(2, 1080);
+
+        assertSame(layout, repository.get(2, 1080));
+        assertEquals(2, layout.createGrid().size());
+        repository.get(2, 720);
+        assertEquals(2, loads.size());
+    }
+
+    @Test
+    public void get_evictsLeastRecentlyUsedLevel() {
+        LevelRepository repository = new LevelRepository(source, queued::add, 2);
+
+        repository.get(1, 1080);
+        repository.get(2, 1080);
+        repository.get(1, 1080);
+        repository.get(3, 1080); // Evicts level 2
+        repository.get(1, 1080);
+        repository.get(2, 1080);
+
+        assertEquals(4, loads.size());
+        assertEquals(2, (int) loads.get(3));
+    }
+
+    @Test
+    public void prefetch_loadsOnExecutor() {
+        LevelRepository repository = new LevelRepository(source, queued::add, 4);
+
+        repository.prefetch(2, 1080);
+        repository.prefetch(2, 1080);
+        assertEquals(0, loads.size());
+
+        for (Runnable load : queued) {
+            load.run();
+        }
+
+        repository.get(2, 1080);
+        assertEquals(1, loads.size());
+    }
+
+    @Test
+    public void get_runsPendingPrefetchOnCallingThread() {
+        LevelRepository repository = new LevelRepository(source, queued::add, 4);
+
+        repository.prefetch(3, 1080);
+        LevelLayout layout = repository.get(3, 1080);
+        queued.get(0).run(); // The executor finally gets to it
+
+        assertEquals(3, layout.createGrid().size());
+        assertEquals(1, loads.size());
+    }
+
+    @Test
+    public void get_retriesFailedPrefetchOnCallingThread() {
+        LevelRepository repository = new LevelRepository(failingSource(1), queued::add, 4);
+
+        repository.prefetch(2, 1080);
+        queued.get(0).run(); // Fails in the background
+
+        assertEquals(2, repository.get(2, 1080).createGrid().size());
+        assertEquals(1, loads.size());
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void get_throwsWhenRetryFails() {
+        LevelRepository repository = new LevelRepository(failingSource(2), queued::add, 4);
+
+        repository.get(2, 1080);
+    }
+
+    @Test
+    public void get_doesNotCacheFailedLoads() {
+        LevelRepository repository = new LevelRepository(failingSource(2), queued::add, 4);
+
+        try {
+            repository.get(2, 1080);
+        } catch (UncheckedIOException e) {
+            // Both attempts failed
+        }
+
+        assertEquals(2, repository.get(2, 1080).createGrid().size());
+    }
+
+    @Test
+    public void world_prefetchesNextLevel() {
+        GameWorld world = new GameWorld(1080, 2400, new LevelRepository(source, queued::add, 4));
+
+        world.startGame();
+
+        assertEquals(1, loads.size());
+        assertEquals(1, queued.size());
+        queued.get(0).run();
+        assertEquals(2, (int) loads.get(1));
+    }
+
+    /**
+     * Creates a source that fails to read the first levels requested, then reads like the
+     * default source.
+     *
+     * @param failures The number of reads that fail.
+     * @return The level source.
+     */
+    private LevelSource failingSource(int failures) {
+        int[] remaining = {failures};
+
+        return level -> {
+            if (remaining[0]-- > 0) {
+                throw new UncheckedIOException(new IOException("Read failed"));
+            }
+
+            return source.loadLevel(level);
+        };
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.example.bricks.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unit tests for the game loop scheduler, driving a minimal loop on its own thread.
+ */
+public class LoopSchedulerTest {
+
+    private final LoopScheduler scheduler = new LoopScheduler();
+    private final AtomicBoolean playing = new AtomicBoolean(true); // Game state read by the loop
+    private final AtomicLong frames = new AtomicLong(); // Frames run by the loop
+
+    /**
+     * Runs frames like the game loop: idles after a frame that saw the game not playing.
+     */
+    private final Runnable loop = () -> {
+        try {
+            while (true) {
+                scheduler.awaitRunnable();
+                long token = scheduler.getWakeToken();
+                boolean isPlaying = playing.get();
+                frames.incrementAndGet();
+
+                if (!isPlaying) {
+                    scheduler.goIdle(token);
+                } else {
+                    Thread.sleep(1);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    };
+
+    @Test
+    public void pausedGame_causesNoWakeups() throws InterruptedException {
+        Thread thread = new Thread(loop);
+        thread.start();
+
+        try {
+            playing.set(false);
+            awaitSuspended();
+            long idleFrames = frames.get();
+            Thread.sleep(100);
+
+            assertEquals(idleFrames, frames.get());
+            assertEquals(0, scheduler.getWakeupCount());
+
+            playing.set(true);
+            scheduler.wake();
+            awaitFrames(idleFrames + 5);
+
+            assertEquals(1, scheduler.getWakeupCount());
+        } finally {
+            thread.interrupt();
+            thread.join();
+        }
+    }
+
+    @Test
+    public void wakeBeforeGoingIdle_isNotLost() {
+        long token = scheduler.getWakeToken();
+        scheduler.wake(); // The game was resumed after the loop saw it paused
+
+        scheduler.goIdle(token);
+
+        assertFalse(scheduler.isSuspended());
+    }
+
+    @Test
+    public void background_outlastsWake() {
+        scheduler.suspend(LoopScheduler.SUSPEND_BACKGROUND);
+        scheduler.goIdle(scheduler.getWakeToken());
+
+        scheduler.wake();
+        assertTrue(scheduler.isSuspended());
+
+        scheduler.resume(LoopScheduler.SUSPEND_BACKGROUND);
+        assertFalse(scheduler.isSuspended());
+    }
+
+    @Test
+    public void pollRunnable_countsOneWakeupPerSuspension() {
+        assertTrue(scheduler.pollRunnable());
+        scheduler.goIdle(scheduler.getWakeToken());
+
+        assertFalse(scheduler.pollRunnable());
+        assertFalse(scheduler.pollRunnable());
+        assertEquals(0, scheduler.getWakeupCount());
+
+        scheduler.wake();
+        assertTrue(scheduler.pollRunnable());
+        assertTrue(scheduler.pollRunnable());
+        assertEquals(1, scheduler.getWakeupCount());
+    }
+
+    /**
+     * Waits until the loop is suspended.
+     */
+    private void awaitSuspended() throws InterruptedException {
+        for (int i = 0; i < 1000 && !scheduler.isSuspended(); i++) {
+            Thread.sleep(1);
+        }
+
+        assertTrue(scheduler.isSuspended());
+    }
+
+    /**
+     * Waits until the loop ran a number of frames.
+     *
+     * @param count The number of frames.
+     */
+    private void awaitFrames(long count) throws InterruptedException {
+        for (int i = 0; i < 1000 && frames.get() < count; i++) {
+            Thread.sleep(1);
+        }
+
+        assertTrue(frames.get() >= count);
+    }
+
+}
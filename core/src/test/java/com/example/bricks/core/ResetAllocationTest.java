@@ -0,0 +1,91 @@
+package com.example.bricks.core;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Local unit test checking that level restarts and lost lives reuse the game objects instead of
+ * allocating new ones.
+ */
+public class ResetAllocationTest {
+
+    private static final int WARM_UP_RESETS = 20; // Resets run before measuring, caches the levels and lets the JIT settle
+    private static final int MEASURED_RESETS = 100; // Resets run while measuring allocations
+    private static final int MAX_MEASUREMENTS = 10; // Runs of measured resets until one allocates nothing
+    private static final int MAX_FALL_STEPS = 10_000; // Upper bound of steps until the ball is lost
+
+    @Test
+    public void resets_doNotAllocate_objects() {
+        assertResetsDoNotAllocate(BrickStorage.OBJECTS);
+    }
+
+    @Test
+    public void resets_doNotAllocate_arrays() {
+        assertResetsDoNotAllocate(BrickStorage.ARRAYS);
+    }
+
+    /**
+     * Restarts the game and loses a life repeatedly, and checks that no bytes are allocated.
+     * The JIT compiler occasionally allocates a few bytes on the thread whose code it compiles or
+     * deoptimizes, so the resets are measured again, a few times at most, until a whole run
+     * allocates nothing. Resets that allocate make every run fail.
+     *
+     * @param storage The representation of the bricks.
+     */
+    private static void assertResetsDoNotAllocate(BrickStorage storage) {
+        java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        assumeTrue(allocationBean.isThreadAllocatedMemorySupported());
+        allocationBean.setThreadAllocatedMemoryEnabled(true);
+
+        GameWorld world = GameWorldTest.createWorld();
+        world.setBrickStorage(storage);
+        Ball ball = world.getBall();
+        BrickStore bricks = null;
+
+        for (int i = 0; i < WARM_UP_RESETS; i++) {
+            restartAndLoseLife(world);
+            bricks = world.getBricks();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long allocated = -1;
+
+        for (int run = 0; run < MAX_MEASUREMENTS && allocated != 0; run++) {
+            long before = allocationBean.getThreadAllocatedBytes(threadId);
+
+            for (int i = 0; i < MEASURED_RESETS; i++) {
+                restartAndLoseLife(world);
+            }
+
+            allocated = allocationBean.getThreadAllocatedBytes(threadId) - before;
+        }
+
+        assertEquals("Bytes allocated by " + MEASURED_RESETS + " resets", 0, allocated);
+        assertSame(ball, world.getBall());
+        assertSame(bricks, world.getBricks());
+    }
+
+    /**
+     * Restarts the game, which refills the first level, and lets the ball fall past the platform,
+     * which resets the ball and the platform.
+     *
+     * @param world The world to reset.
+     */
+    private static void restartAndLoseLife(GameWorld world) {
+        world.startGame();
+        world.movePlatformBy(-world.getWidth()); // Out of the ball's way
+
+        for (int step = 0; step < MAX_FALL_STEPS && world.getAttempts() == 3; step++) {
+            world.step(GameWorld.STEP_SECONDS);
+        }
+
+        assertEquals(2, world.getAttempts());
+    }
+
+}
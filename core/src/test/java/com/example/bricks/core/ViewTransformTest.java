@@ -0,0 +1,50 @@
+package com.example.bricks.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Local unit tests for the transform from world units to view pixels.
+ */
+public class ViewTransformTest {
+
+    private static final float EPSILON = 1e-4f;
+
+    @Test
+    public void fitWidth_mapsWorldWidthToViewWidth() {
+        ViewTransform transform = ViewTransform.fitWidth(GameWorld.WORLD_WIDTH, 720);
+
+        assertEquals(720f, transform.toView(GameWorld.WORLD_WIDTH), EPSILON);
+        assertEquals(1600f, transform.toWorld(1066.6667f), 0.01f); // 20:9 screen keeps its aspect ratio
+        assertEquals(42f, transform.toWorld(transform.toView(42f)), EPSILON);
+    }
+
+    @Test
+    public void simulation_doesNotDependOnScreenResolution() {
+        GameWorld hd = createWorld(720, 1600);
+        GameWorld qhd = createWorld(1440, 3200);
+
+        assertEquals(GameWorldTest.playGame(hd), GameWorldTest.playGame(qhd));
+        assertEquals(hd.getScore(), qhd.getScore());
+        assertEquals(hd.getBall().getX(), qhd.getBall().getX(), 0f);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_rejectsZeroScale() {
+        new ViewTransform(0f);
+    }
+
+    /**
+     * Creates a world for a screen of the given size, the way the game view does.
+     *
+     * @param screenWidth  The screen width in pixels.
+     * @param screenHeight The screen height in pixels.
+     * @return The game world.
+     */
+    private static GameWorld createWorld(int screenWidth, int screenHeight) {
+        ViewTransform transform = ViewTransform.fitWidth(GameWorld.WORLD_WIDTH, screenWidth);
+        return GameWorldTest.createWorld(GameWorld.WORLD_WIDTH, transform.toWorld(screenHeight));
+    }
+
+}